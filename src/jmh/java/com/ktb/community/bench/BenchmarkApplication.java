@@ -0,0 +1,45 @@
+package com.ktb.community.bench;
+
+import com.ktb.community.CommunityApplication;
+import com.ktb.community.feed.FeedItemRebuilder;
+import com.ktb.community.ranking.LeaderboardRankingSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// fork 마다 한 번 애플리케이션을 띄우고 BenchmarkDataset 을 채워 두는 공유 상태
+@State(Scope.Benchmark)
+public class BenchmarkApplication {
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkDataset dataset;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("bench")
+                .run();
+        dataset = BenchmarkDataset.seed(context.getBean(JdbcTemplate.class));
+        context.getBean(FeedItemRebuilder.class).rebuild();
+        // 기동 시점의 빈 user_score 로 채워진 메모리 랭킹을 다시 읽는다
+        context.getBeanProvider(LeaderboardRankingSource.class).ifAvailable(LeaderboardRankingSource::reload);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public BenchmarkDataset dataset() {
+        return dataset;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.community.bench;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 고정 데이터, 같은 seed 로 항상 같은 분포를 만든다
+public final class BenchmarkDataset {
+
+    public static final int USERS = 500;
+    public static final int POSTS = 10_000;
+    public static final int HOT_POST_COMMENTS = 5_000;
+
+    private static final int BATCH = 1_000;
+
+    private final Long firstUserId;
+    private final Long hotPostId;
+
+    private BenchmarkDataset(Long firstUserId, Long hotPostId) {
+        this.firstUserId = firstUserId;
+        this.hotPostId = hotPostId;
+    }
+
+    public static BenchmarkDataset seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"bench" + i + "@example.com", "bench-" + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user (email, password, nickname, is_active, is_admin, is_deleted, created_at, updated_at)
+                VALUES (?, 'pw', ?, TRUE, FALSE, FALSE, ?, ?)""", users);
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM user", Long.class);
+
+        List<Object[]> posts = new ArrayList<>(BATCH);
+        for (int i = 0; i < POSTS; i++) {
+            String content = "본문 ".repeat(50 + random.nextInt(2_000));
+            posts.add(new Object[]{firstUserId + random.nextInt(USERS), "title " + i, content, now, now});
+            if (posts.size() == BATCH) {
+                insertPosts(jdbcTemplate, posts);
+                posts.clear();
+            }
+        }
+        insertPosts(jdbcTemplate, posts);
+        Long hotPostId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM post", Long.class);
+
+        // 소수 게시글에 좋아요/조회/댓글이 몰리는 분포
+        List<Object[]> stats = new ArrayList<>(BATCH);
+        for (int i = 0; i < POSTS; i++) {
+            long hotness = 100_000L / (1 + i + random.nextInt(10));
+            stats.add(new Object[]{hotPostId + i, hotness / 10, hotness, hotness / 50});
+            if (stats.size() == BATCH) {
+                insertStats(jdbcTemplate, stats);
+                stats.clear();
+            }
+        }
+        insertStats(jdbcTemplate, stats);
+
+        List<Object[]> comments = new ArrayList<>(BATCH);
+        for (int i = 0; i < HOT_POST_COMMENTS; i++) {
+            comments.add(new Object[]{firstUserId + random.nextInt(USERS), hotPostId, "comment " + i, now, now});
+            if (comments.size() == BATCH) {
+                insertComments(jdbcTemplate, comments);
+                comments.clear();
+            }
+        }
+        insertComments(jdbcTemplate, comments);
+        jdbcTemplate.update("UPDATE post_stats SET reply_count = ? WHERE post_id = ?", HOT_POST_COMMENTS, hotPostId);
+
+        List<Object[]> scores = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            long total = random.nextInt(300);
+            long correct = total == 0 ? 0 : random.nextLong(total + 1);
+            scores.add(new Object[]{firstUserId + i, (int) correct, total, correct, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_score (user_id, vote_score, total_votes, correct_votes, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)""", scores);
+
+        jdbcTemplate.execute("ANALYZE");
+        return new BenchmarkDataset(firstUserId, hotPostId);
+    }
+
+    private static void insertPosts(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post (user_id, title, content, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)""", rows);
+    }
+
+    private static void insertStats(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+                VALUES (?, ?, ?, ?, 0, 0, 0)""", rows);
+    }
+
+    private static void insertComments(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO comments (user_id, post_id, content, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)""", rows);
+    }
+
+    public Long firstUserId() {
+        return firstUserId;
+    }
+
+    public Long hotPostId() {
+        return hotPostId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktb.community.bench;
+
+import com.ktb.community.entity.Comment;
+import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.support.CursorPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// 댓글이 몰린 게시글에서 offset 페이지와 같은 위치의 keyset 페이지 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "100", "240"})
+    private int page;
+
+    private CommentRepository commentRepository;
+    private Long postId;
+    private Long cursorId;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        commentRepository = application.bean(CommentRepository.class);
+        postId = application.dataset().hotPostId();
+        Page<Comment> offsetPage = commentRepository.findPageByPostId(postId, PageRequest.of(page, PAGE_SIZE));
+        // offset 페이지 첫 댓글 바로 위의 id 를 커서로 쓰면 같은 행을 읽는다
+        cursorId = offsetPage.getContent().getFirst().getId() + 1;
+    }
+
+    @Benchmark
+    public Page<Comment> offsetPage() {
+        return commentRepository.findPageByPostId(postId, PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursorPage<Comment> cursorPage() {
+        return commentRepository.findAllByCursor(postId, cursorId, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ktb.community.bench;
+
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.projection.PostSummaryProjection;
+import com.ktb.community.support.CursorPage;
+import com.ktb.community.support.PostCursor;
+import com.ktb.community.support.PostSortType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// PostQueryRepositoryImpl.findAllByCursor: 첫 페이지와 20 페이지 뒤 커서
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"LATEST", "LIKES", "COMMENTS", "VIEWS"})
+    private PostSortType sortType;
+
+    private PostRepository postRepository;
+    private PostCursor deepCursor;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        postRepository = application.bean(PostRepository.class);
+        PostCursor cursor = null;
+        for (int i = 0; i < 20; i++) {
+            CursorPage<PostSummaryProjection> page = postRepository.findAllByCursor(cursor, PAGE_SIZE, sortType);
+            cursor = PostCursor.decode(page.getNextCursorToken());
+        }
+        deepCursor = cursor;
+    }
+
+    @Benchmark
+    public CursorPage<PostSummaryProjection> firstPage() {
+        return postRepository.findAllByCursor(null, PAGE_SIZE, sortType);
+    }
+
+    @Benchmark
+    public CursorPage<PostSummaryProjection> deepPage() {
+        return postRepository.findAllByCursor(deepCursor, PAGE_SIZE, sortType);
+    }
+}
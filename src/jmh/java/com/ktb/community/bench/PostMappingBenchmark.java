@@ -0,0 +1,75 @@
+package com.ktb.community.bench;
+
+import com.ktb.community.dto.post.PostDetailSnapshot;
+import com.ktb.community.dto.post.PostResponse;
+import com.ktb.community.dto.post.PostSummaryResponse;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.projection.PostCounters;
+import com.ktb.community.repository.projection.PostSummaryProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostMappingBenchmark {
+
+    @Param({"200", "20000"})
+    private int contentLength;
+
+    private List<PostSummaryProjection> page;
+    private Post post;
+    private PostDetailSnapshot snapshot;
+    private PostCounters counters;
+
+    @Setup
+    public void setUp() {
+        String content = "a".repeat(contentLength);
+        Instant now = Instant.now();
+        page = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> new PostSummaryProjection(id, "title " + id, content, contentLength, 1L, "nick",
+                        null, now, now, id * 3, id * 2, id))
+                .toList();
+
+        User author = User.builder()
+                .email("bench@example.com")
+                .password("pw")
+                .nickname("bench")
+                .active(true)
+                .admin(false)
+                .deleted(false)
+                .build();
+        post = Post.create(author, "title", content);
+        snapshot = PostDetailSnapshot.from(post);
+        counters = new PostCounters(100L, 10L, 5L, 3L, 4L, 7L);
+    }
+
+    @Benchmark
+    public List<PostSummaryResponse> summaryPage() {
+        return page.stream()
+                .map(PostSummaryResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public PostResponse detailFromEntity() {
+        return PostResponse.from(post);
+    }
+
+    @Benchmark
+    public PostResponse detailFromSnapshot() {
+        return PostResponse.from(snapshot, counters, null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ktb.community.bench;
+
+import com.ktb.community.dto.vote.UserRankingResponse;
+import com.ktb.community.service.UserScoreService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingBenchmark {
+
+    private UserScoreService userScoreService;
+    private Long currentUserId;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        userScoreService = application.bean(UserScoreService.class);
+        currentUserId = application.dataset().firstUserId() + BenchmarkDataset.USERS / 2;
+    }
+
+    @Benchmark
+    public UserRankingResponse.RankingListResponse topRankingsAnonymous() {
+        return userScoreService.getTopRankings(100, null);
+    }
+
+    @Benchmark
+    public UserRankingResponse.RankingListResponse topRankingsWithCurrentUser() {
+        return userScoreService.getTopRankings(100, currentUserId);
+    }
+}
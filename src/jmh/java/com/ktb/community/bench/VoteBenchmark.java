@@ -0,0 +1,101 @@
+package com.ktb.community.bench;
+
+import com.ktb.community.dto.vote.VoteRequest;
+import com.ktb.community.dto.vote.VoteResponse;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.PostVote;
+import com.ktb.community.entity.User;
+import com.ktb.community.entity.UserScore;
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import com.ktb.community.service.PostVoteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 투표 한 건의 지연 시간: 예전 경로(조회 후 삽입, 엔티티 수정, 약 9 round trip) vs 현재 votePost
+// (insert + 투표 수/점수 조회 3 round trip, 집계 반영은 VoteTallyBuffer 가 비동기로)
+// 매 호출마다 아직 투표하지 않은 (user, post) 조합을 쓴다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoteBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private PostVoteService postVoteService;
+    private PostRepository postRepository;
+    private PostVoteRepository postVoteRepository;
+    private PostStatsRepository postStatsRepository;
+    private UserRepository userRepository;
+    private UserScoreRepository userScoreRepository;
+    private TransactionTemplate transactionTemplate;
+    private BenchmarkDataset dataset;
+
+    @Setup
+    public void setUp(BenchmarkApplication application) {
+        postVoteService = application.bean(PostVoteService.class);
+        postRepository = application.bean(PostRepository.class);
+        postVoteRepository = application.bean(PostVoteRepository.class);
+        postStatsRepository = application.bean(PostStatsRepository.class);
+        userRepository = application.bean(UserRepository.class);
+        userScoreRepository = application.bean(UserScoreRepository.class);
+        transactionTemplate = new TransactionTemplate(application.bean(PlatformTransactionManager.class));
+        dataset = application.dataset();
+    }
+
+    @Benchmark
+    public VoteResponse votePost() {
+        long next = sequence.getAndIncrement();
+        return postVoteService.votePost(postId(next), userId(next), new VoteRequest(VoteType.AI));
+    }
+
+    // 변경 전 PostVoteService.votePost 의 쿼리 순서를 그대로 재현
+    @Benchmark
+    public PostVoteCounts legacyVotePost() {
+        long next = sequence.getAndIncrement();
+        Long postId = postId(next);
+        Long userId = userId(next);
+        return transactionTemplate.execute(status -> {
+            Post post = postRepository.findByIdAndDeletedAtIsNull(postId).orElseThrow();
+            if (!post.canVote() || postVoteRepository.existsByPostIdAndUserId(postId, userId)) {
+                throw new IllegalStateException();
+            }
+            User user = userRepository.findById(userId).orElseThrow();
+            PostVote vote = postVoteRepository.save(PostVote.create(user, post, VoteType.AI));
+            postStatsRepository.incrementAiVoteCount(postId);
+            PostVoteCounts counts = postStatsRepository.findVoteCounts(postId);
+            UserScore score = userScoreRepository.findByUserId(userId)
+                    .orElseGet(() -> userScoreRepository.save(UserScore.initialize(user)));
+            if (vote.isCorrect()) {
+                score.incrementScore();
+            } else {
+                score.incrementTotalVotes();
+            }
+            userScoreRepository.findByUserId(userId);
+            return counts;
+        });
+    }
+
+    private Long postId(long sequence) {
+        return dataset.hotPostId() + sequence / BenchmarkDataset.USERS % BenchmarkDataset.POSTS;
+    }
+
+    private Long userId(long sequence) {
+        return dataset.firstUserId() + sequence % BenchmarkDataset.USERS;
+    }
+}
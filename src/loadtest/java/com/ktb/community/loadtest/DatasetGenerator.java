@@ -0,0 +1,137 @@
+package com.ktb.community.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// users/posts/comments/likes/votes 를 JDBC 배치로 채운다, 게시글 선택은 앞쪽(hot) 에 몰리도록 치우친 분포
+public final class DatasetGenerator {
+
+    public static final String PASSWORD = "loadtest-pw1!";
+
+    private static final int BATCH = 1_000;
+    private static final int VOTE_POST_EVERY = 10;
+
+    private DatasetGenerator() {
+    }
+
+    public record Dataset(long firstUserId, int users, long firstPostId, int posts, List<Long> votePostIds) {
+
+        public String email(int userIndex) {
+            return "load" + userIndex + "@example.com";
+        }
+    }
+
+    public static Dataset seed(JdbcTemplate jdbcTemplate, LoadTestOptions options) {
+        Random random = new Random(7);
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp voteDeadline = Timestamp.from(Instant.now().plus(Duration.ofDays(7)));
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            users.add(new Object[]{"load" + i + "@example.com", passwordHash, "load-" + i, now, now});
+        }
+        batch(jdbcTemplate, """
+                INSERT INTO user (email, password, nickname, is_active, is_admin, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, TRUE, FALSE, FALSE, ?, ?)""", users);
+        long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM user", Long.class);
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 0; i < options.posts(); i++) {
+            boolean votePost = i % VOTE_POST_EVERY == 0;
+            posts.add(new Object[]{
+                    firstUserId + random.nextInt(options.users()),
+                    "load post " + i,
+                    "본문 ".repeat(20 + random.nextInt(1_000)),
+                    now, now,
+                    votePost ? (random.nextBoolean() ? "AI" : "HUMAN") : null,
+                    votePost ? voteDeadline : null
+            });
+        }
+        batch(jdbcTemplate, """
+                INSERT INTO post (user_id, title, content, created_at, updated_at, author_type, vote_deadline_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", posts);
+        long firstPostId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM post", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+                SELECT id, 0, 0, 0, 0, 0, 0 FROM post""");
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < options.comments(); i++) {
+            comments.add(new Object[]{
+                    firstUserId + random.nextInt(options.users()),
+                    firstPostId + skewed(random, options.posts()),
+                    "comment " + i, now, now});
+        }
+        batch(jdbcTemplate, """
+                INSERT INTO comments (user_id, post_id, content, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)""", comments);
+
+        Set<Long> likePairs = new HashSet<>();
+        List<Object[]> likes = new ArrayList<>();
+        for (int i = 0; i < options.likes(); i++) {
+            long userId = firstUserId + random.nextInt(options.users());
+            long postId = firstPostId + skewed(random, options.posts());
+            if (likePairs.add(userId * options.posts() * 10L + postId)) {
+                likes.add(new Object[]{userId, postId, now});
+            }
+        }
+        batch(jdbcTemplate, "INSERT INTO likes (user_id, post_id, created_at) VALUES (?, ?, ?)", likes);
+
+        List<Long> votePostIds = new ArrayList<>();
+        for (int i = 0; i < options.posts(); i += VOTE_POST_EVERY) {
+            votePostIds.add(firstPostId + i);
+        }
+        Set<Long> votePairs = new HashSet<>();
+        List<Object[]> votes = new ArrayList<>();
+        for (int i = 0; i < options.votes() && !votePostIds.isEmpty(); i++) {
+            long userId = firstUserId + random.nextInt(options.users());
+            long postId = votePostIds.get(skewed(random, votePostIds.size()));
+            if (votePairs.add(userId * options.posts() * 10L + postId)) {
+                String voteType = random.nextBoolean() ? "AI" : "HUMAN";
+                votes.add(new Object[]{userId, postId, voteType, voteType, postId, now});
+            }
+        }
+        batch(jdbcTemplate, """
+                INSERT INTO post_vote (user_id, post_id, vote_type, is_correct, created_at)
+                VALUES (?, ?, ?, (SELECT p.author_type = ? FROM post p WHERE p.id = ?), ?)""", votes);
+
+        // 카운터는 실제 행에서 다시 계산
+        jdbcTemplate.update("""
+                UPDATE post_stats s SET
+                    like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = s.post_id),
+                    reply_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = s.post_id),
+                    view_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = s.post_id) * 20,
+                    ai_vote_count = (SELECT COUNT(*) FROM post_vote v WHERE v.post_id = s.post_id AND v.vote_type = 'AI'),
+                    human_vote_count = (SELECT COUNT(*) FROM post_vote v WHERE v.post_id = s.post_id AND v.vote_type = 'HUMAN'),
+                    total_vote_count = (SELECT COUNT(*) FROM post_vote v WHERE v.post_id = s.post_id)""");
+        jdbcTemplate.update("""
+                INSERT INTO user_score (user_id, vote_score, total_votes, correct_votes, created_at, updated_at)
+                SELECT v.user_id, SUM(CASE WHEN v.is_correct THEN 1 ELSE 0 END), COUNT(*),
+                       SUM(CASE WHEN v.is_correct THEN 1 ELSE 0 END), ?, ?
+                FROM post_vote v GROUP BY v.user_id""", now, now);
+        jdbcTemplate.execute("ANALYZE");
+
+        return new Dataset(firstUserId, options.users(), firstPostId, options.posts(), List.copyOf(votePostIds));
+    }
+
+    // 0 쪽에 몰리는 인덱스 (상위 몇 %의 게시글이 대부분의 트래픽을 받음)
+    public static int skewed(Random random, int size) {
+        return (int) (size * Math.pow(random.nextDouble(), 4));
+    }
+
+    private static void batch(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH, rows.size())));
+        }
+    }
+}
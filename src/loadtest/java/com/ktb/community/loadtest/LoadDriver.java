@@ -0,0 +1,215 @@
+package com.ktb.community.loadtest;
+
+import com.ktb.community.loadtest.DatasetGenerator.Dataset;
+import com.ktb.community.loadtest.LoadTestOptions.Operation;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 가상 사용자마다 가상 스레드 하나, 로그인 세션을 유지하면서 mix 비율대로 요청을 보낸다
+public class LoadDriver {
+
+    private static final String[] SORTS = {"latest", "likes", "comments", "views"};
+    private static final byte[] UPLOAD_BODY = new byte[32 * 1024];
+
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final LoadTestOptions options;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final Operation[] weightedOperations;
+
+    public LoadDriver(String baseUrl, Dataset dataset, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.options = options;
+        this.weightedOperations = expand(options.mix());
+    }
+
+    public Map<String, EndpointStats> run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                int userIndex = i % dataset.users();
+                long seed = i;
+                executor.submit(() -> runUser(userIndex, new Random(seed), warmupEnd, end));
+            }
+            executor.shutdown();
+            executor.awaitTermination(options.warmup().plus(options.duration()).toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        return stats;
+    }
+
+    private void runUser(int userIndex, Random random, long warmupEnd, long end) {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            login(client, userIndex);
+            while (System.nanoTime() < end) {
+                Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+                HttpRequest request = request(operation, random);
+                long start = System.nanoTime();
+                int status;
+                try {
+                    status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (IOException ex) {
+                    status = -1;
+                }
+                long finished = System.nanoTime();
+                // 워밍업 구간은 집계하지 않는다
+                if (start >= warmupEnd) {
+                    stats.computeIfAbsent(endpointName(operation, request), EndpointStats::new)
+                            .record(finished - start, status);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            stats.computeIfAbsent("POST /api/auth/login", EndpointStats::new).record(0, -1);
+        }
+    }
+
+    private void login(HttpClient client, int userIndex) throws IOException, InterruptedException {
+        String body = """
+                {"email":"%s","password":"%s"}""".formatted(dataset.email(userIndex), DatasetGenerator.PASSWORD);
+        HttpResponse<Void> response = client.send(json("/api/auth/login", "POST", body), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IOException("Login failed with status " + response.statusCode());
+        }
+    }
+
+    private HttpRequest request(Operation operation, Random random) {
+        long postId = dataset.firstPostId() + DatasetGenerator.skewed(random, dataset.posts());
+        return switch (operation) {
+            case FEED -> get("/api/posts?size=10&sort=" + SORTS[random.nextInt(SORTS.length)]);
+            case DETAIL -> get("/api/posts/" + postId);
+            case LIKE -> json("/api/posts/" + postId + "/likes", random.nextBoolean() ? "POST" : "DELETE", "");
+            case COMMENT -> json("/api/posts/" + postId + "/comments", "POST",
+                    "{\"content\":\"load comment " + random.nextInt() + "\"}");
+            case VOTE -> {
+                List<Long> votePostIds = dataset.votePostIds();
+                long votePostId = votePostIds.get(DatasetGenerator.skewed(random, votePostIds.size()));
+                yield json("/api/posts/" + votePostId + "/vote", "POST",
+                        "{\"voteType\":\"" + (random.nextBoolean() ? "AI" : "HUMAN") + "\"}");
+            }
+            case UPLOAD -> upload();
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body.isEmpty()
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest upload() {
+        String boundary = "loadtest-boundary";
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/files"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, UPLOAD_BODY, tail)))
+                .build();
+    }
+
+    // 게시글 id 는 빼고 "METHOD 경로 패턴" 으로 묶는다
+    private static String endpointName(Operation operation, HttpRequest request) {
+        return switch (operation) {
+            case FEED -> "GET /api/posts";
+            case DETAIL -> "GET /api/posts/{id}";
+            case LIKE -> request.method() + " /api/posts/{id}/likes";
+            case COMMENT -> "POST /api/posts/{id}/comments";
+            case VOTE -> "POST /api/posts/{id}/vote";
+            case UPLOAD -> "POST /api/files";
+        };
+    }
+
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        new EnumMap<>(mix).forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("mix must contain at least one positive weight");
+        }
+        return operations.toArray(Operation[]::new);
+    }
+
+    public static class EndpointStats {
+
+        private final String name;
+        private final LongAdder errors = new LongAdder();
+        private final List<Long> latencies = new ArrayList<>();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+
+        void record(long latencyNanos, int status) {
+            if (status < 200 || status >= 400) {
+                errors.increment();
+            }
+            synchronized (latencies) {
+                latencies.add(latencyNanos);
+            }
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long count() {
+            synchronized (latencies) {
+                return latencies.size();
+            }
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        public double percentileMillis(double percentile) {
+            long[] sorted;
+            synchronized (latencies) {
+                sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            }
+            if (sorted.length == 0) {
+                return 0;
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.clamp(index, 0, sorted.length - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ktb.community.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// key=value 인자, 예: users=500 posts=20000 concurrency=200 duration=120 mix=feed:60,detail:25,like:5,comment:5,vote:5
+public record LoadTestOptions(
+        int users,
+        int posts,
+        int comments,
+        int likes,
+        int votes,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        Path report
+) {
+
+    public enum Operation {
+        FEED, DETAIL, LIKE, COMMENT, VOTE, UPLOAD
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                intValue(values, "users", 200),
+                intValue(values, "posts", 5_000),
+                intValue(values, "comments", 20_000),
+                intValue(values, "likes", 20_000),
+                intValue(values, "votes", 5_000),
+                intValue(values, "concurrency", 100),
+                Duration.ofSeconds(intValue(values, "warmup", 10)),
+                Duration.ofSeconds(intValue(values, "duration", 60)),
+                parseMix(values.getOrDefault("mix", "feed:50,detail:30,like:8,comment:7,vote:5")),
+                Path.of(values.getOrDefault("report", "build/reports/loadtest/report.txt"))
+        );
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ktb.community.loadtest;
+
+import com.ktb.community.CommunityApplication;
+import com.ktb.community.feed.FeedItemRebuilder;
+import com.ktb.community.loadtest.DatasetGenerator.Dataset;
+import com.ktb.community.loadtest.LoadDriver.EndpointStats;
+import com.ktb.community.ranking.LeaderboardRankingSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.Map;
+
+// 실행: ./gradlew loadTest -PloadTestArgs="users=500 posts=20000 concurrency=200 duration=120"
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (LocalS3Server s3 = LocalS3Server.start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityApplication.class)
+                     .profiles("loadtest")
+                     .properties("aws.s3.endpoint=" + s3.endpoint())
+                     .run()) {
+            Dataset dataset = DatasetGenerator.seed(context.getBean(JdbcTemplate.class), options);
+            context.getBean(FeedItemRebuilder.class).rebuild();
+            context.getBeanProvider(LeaderboardRankingSource.class).ifAvailable(LeaderboardRankingSource::reload);
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            Map<String, EndpointStats> stats = new LoadDriver("http://127.0.0.1:" + port, dataset, options).run();
+
+            String report = report(options, stats);
+            System.out.print(report);
+            Files.createDirectories(options.report().toAbsolutePath().getParent());
+            Files.writeString(options.report(), report);
+        }
+    }
+
+    private static String report(LoadTestOptions options, Map<String, EndpointStats> stats) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        StringBuilder report = new StringBuilder()
+                .append("users=").append(options.users())
+                .append(" posts=").append(options.posts())
+                .append(" concurrency=").append(options.concurrency())
+                .append(" duration=").append(options.duration().toSeconds()).append("s")
+                .append(" mix=").append(options.mix()).append('\n')
+                .append(String.format("%-34s %9s %7s %9s %9s %9s %9s%n",
+                        "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)"));
+        stats.values().stream()
+                .sorted(Comparator.comparing(EndpointStats::name))
+                .forEach(endpoint -> report.append(String.format("%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                        endpoint.name(),
+                        endpoint.count(),
+                        endpoint.errors(),
+                        endpoint.count() / seconds,
+                        endpoint.percentileMillis(50),
+                        endpoint.percentileMillis(95),
+                        endpoint.percentileMillis(99))));
+        return report.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.ktb.community.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+
+// path-style S3 요청(PUT/GET/HEAD/DELETE /{bucket}/{key})과 multipart upload 만 처리하는 메모리 저장소
+public class LocalS3Server implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+    private LocalS3Server(HttpServer server) {
+        this.server = server;
+    }
+
+    public static LocalS3Server start() throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        LocalS3Server s3 = new LocalS3Server(httpServer);
+        httpServer.createContext("/", s3::handle);
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.start();
+        return s3;
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String key = exchange.getRequestURI().getPath();
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        try (exchange) {
+            if (query.containsKey("uploads") || query.containsKey("uploadId")) {
+                handleMultipart(exchange, key, query);
+                return;
+            }
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    byte[] body = exchange.getRequestBody().readAllBytes();
+                    objects.put(key, body);
+                    // SDK 가 업로드 내용의 MD5 와 ETag 를 비교한다
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "GET" -> {
+                    byte[] body = objects.get(key);
+                    if (body == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                case "HEAD" -> {
+                    byte[] body = objects.get(key);
+                    if (body == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    exchange.getResponseHeaders().add("Content-Length", String.valueOf(body.length));
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "DELETE" -> {
+                    objects.remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    // 시작(POST ?uploads), part(PUT ?partNumber&uploadId), 완료(POST ?uploadId), 취소(DELETE ?uploadId)
+    private void handleMultipart(HttpExchange exchange, String key, Map<String, String> query) throws IOException {
+        String method = exchange.getRequestMethod();
+        String uploadId = query.get("uploadId");
+        if ("POST".equals(method) && uploadId == null) {
+            String newUploadId = UUID.randomUUID().toString();
+            multipartUploads.put(newUploadId, new ConcurrentSkipListMap<>());
+            sendXml(exchange, "<InitiateMultipartUploadResult><Key>" + key + "</Key><UploadId>" + newUploadId
+                    + "</UploadId></InitiateMultipartUploadResult>");
+            return;
+        }
+        SortedMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        switch (method) {
+            case "PUT" -> {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                parts.put(Integer.parseInt(query.get("partNumber")), body);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "POST" -> {
+                exchange.getRequestBody().readAllBytes();
+                ByteArrayOutputStream object = new ByteArrayOutputStream();
+                parts.values().forEach(object::writeBytes);
+                objects.put(key, object.toByteArray());
+                multipartUploads.remove(uploadId);
+                sendXml(exchange, "<CompleteMultipartUploadResult><Key>" + key + "</Key><ETag>\""
+                        + md5Hex(object.toByteArray()) + "-" + parts.size() + "\"</ETag></CompleteMultipartUploadResult>");
+            }
+            case "DELETE" -> {
+                multipartUploads.remove(uploadId);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> exchange.sendResponseHeaders(405, -1);
+        }
+    }
+
+    private static void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) {
+                params.put(pair, "");
+            } else {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String md5Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
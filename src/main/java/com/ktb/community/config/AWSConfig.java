@@ -2,11 +2,13 @@ package com.ktb.community.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class AWSConfig {
@@ -16,14 +18,23 @@ public class AWSConfig {
     private String iamSecretKey;
     @Value("${aws.s3.region}")
     private String awsRegion;
+    // 로컬 S3 호환 서버를 쓸 때만 지정 (예: 부하 테스트)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
 
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(iamAccessKey, iamSecretKey);
 
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(awsRegion)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+        if (StringUtils.hasText(endpoint)) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, awsRegion))
+                    .withPathStyleAccessEnabled(true)
+                    .withChunkedEncodingDisabled(true);
+        } else {
+            builder.withRegion(awsRegion);
+        }
+        return (AmazonS3Client) builder.build();
     }
 }
@@ -0,0 +1,61 @@
+package com.ktb.community.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 정렬 기준별 피드 첫 페이지, key = "{sortType}:{size}"
+    public static final String FEED_FIRST_PAGE = "feedFirstPage";
+    // 카운터를 제외한 게시글 상세, key = postId
+    public static final String POST_DETAIL = "postDetail";
+    // 세션 principal 의 id 로 찾는 사용자 정보, key = userId
+    public static final String USER_SNAPSHOT = "userSnapshot";
+    // 사용자가 좋아요한 게시글 id 비트맵, key = userId (LikedPostCache 가 직접 관리)
+    public static final String LIKED_POSTS = "likedPosts";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.feed-first-page.ttl-seconds:5}") long feedFirstPageTtlSeconds,
+                                     @Value("${cache.post-detail.ttl-seconds:600}") long postDetailTtlSeconds,
+                                     @Value("${cache.post-detail.max-size:10000}") long postDetailMaxSize,
+                                     @Value("${cache.user-snapshot.ttl-seconds:300}") long userSnapshotTtlSeconds,
+                                     @Value("${cache.user-snapshot.max-size:10000}") long userSnapshotMaxSize,
+                                     @Value("${cache.liked-posts.ttl-seconds:1800}") long likedPostsTtlSeconds,
+                                     @Value("${cache.liked-posts.max-size:50000}") long likedPostsMaxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 미리 등록한 캐시만 사용하고, actuator(caches, cache.gets 메트릭)에 노출되도록 recordStats
+        cacheManager.registerCustomCache(FEED_FIRST_PAGE, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(feedFirstPageTtlSeconds))
+                .maximumSize(100)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(POST_DETAIL, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(postDetailTtlSeconds))
+                .maximumSize(postDetailMaxSize)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(USER_SNAPSHOT, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(userSnapshotTtlSeconds))
+                .maximumSize(userSnapshotMaxSize)
+                .recordStats()
+                .build());
+        // 다른 서버의 좋아요가 TTL 안에 반영되도록 자주 읽혀도 만료되게 expireAfterWrite
+        cacheManager.registerCustomCache(LIKED_POSTS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(likedPostsTtlSeconds))
+                .maximumSize(likedPostsMaxSize)
+                .recordStats()
+                .build());
+        // @CacheEvict/@Cacheable 의 evict/put 을 커밋 뒤로 미뤄, 커밋 전 데이터가 다시 캐시되지 않게 한다
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
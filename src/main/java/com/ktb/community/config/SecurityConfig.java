@@ -49,9 +49,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/users").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/check-email").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/files").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/files", "/api/files/presigned", "/api/files/*/confirm").permitAll()
                         .requestMatchers(HttpMethod.GET, "/", "/static/**", "/pages/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // 프리플라이트 허용
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 캐시 비우기(DELETE /actuator/caches) 포함
                         .anyRequest().authenticated()
                 )
                 .logout(logout -> logout
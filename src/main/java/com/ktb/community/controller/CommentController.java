@@ -1,6 +1,7 @@
 package com.ktb.community.controller;
 
 import com.ktb.community.dto.comment.CommentCreateRequest;
+import com.ktb.community.dto.comment.CommentCursorResponse;
 import com.ktb.community.dto.comment.CommentPageResponse;
 import com.ktb.community.dto.comment.CommentResponse;
 import com.ktb.community.dto.comment.CommentUpdateRequest;
@@ -8,6 +9,7 @@ import com.ktb.community.entity.Comment;
 import com.ktb.community.entity.User;
 import com.ktb.community.service.CommentService;
 import com.ktb.community.service.UserService;
+import com.ktb.community.user.CommunityUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,7 +18,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -35,6 +36,8 @@ public class CommentController {
     private final CommentService commentService;
     private final UserService userService;
 
+    // 느린 경로 (offset + COUNT), 기존 page/size 클라이언트 호환용
+    @Deprecated
     @GetMapping("/posts/{postId}/comments")
     public ResponseEntity<CommentPageResponse> list(@PathVariable Long postId,
                                                     @RequestParam(defaultValue = "0") int page,
@@ -47,12 +50,22 @@ public class CommentController {
         return ResponseEntity.ok(CommentPageResponse.from(commentPage));
     }
 
+    // ?mode=cursor&cursorId=... : id 내림차순 keyset 페이지
+    @GetMapping(value = "/posts/{postId}/comments", params = "mode=cursor")
+    public ResponseEntity<CommentCursorResponse> listByCursor(@PathVariable Long postId,
+                                                              @RequestParam(required = false) Long cursorId,
+                                                              @RequestParam(defaultValue = "10") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 50);
+        return ResponseEntity.ok(CommentCursorResponse.from(
+                commentService.getCommentsByCursor(postId, cursorId, pageSize)));
+    }
+
     @PostMapping("/posts/{postId}/comments")
     public ResponseEntity<CommentResponse> create(@PathVariable Long postId,
                                                   @Valid @RequestBody CommentCreateRequest request,
-                                                  @AuthenticationPrincipal UserDetails principal) {
+                                                  @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         Comment comment = commentService.addComment(postId, user, request.content());
         return ResponseEntity.status(HttpStatus.CREATED).body(CommentResponse.from(comment));
     }
@@ -60,23 +73,23 @@ public class CommentController {
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<CommentResponse> update(@PathVariable Long commentId,
                                                   @Valid @RequestBody CommentUpdateRequest request,
-                                                  @AuthenticationPrincipal UserDetails principal) {
+                                                  @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         Comment updated = commentService.updateComment(commentId, user, request.content());
         return ResponseEntity.ok(CommentResponse.from(updated));
     }
 
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<Void> delete(@PathVariable Long commentId,
-                                       @AuthenticationPrincipal UserDetails principal) {
+                                       @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         commentService.deleteComment(commentId, user);
         return ResponseEntity.noContent().build();
     }
 
-    private void ensureAuthenticated(UserDetails principal) {
+    private void ensureAuthenticated(CommunityUserDetails principal) {
         if (principal == null) {
             throw new org.springframework.web.server.ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
         }
@@ -1,20 +1,29 @@
 package com.ktb.community.controller;
 
 import com.ktb.community.dto.file.FileUploadResponse;
+import com.ktb.community.dto.file.PresignedUploadRequest;
+import com.ktb.community.dto.file.PresignedUploadResponse;
 import com.ktb.community.entity.File;
 import com.ktb.community.service.FileStorageService;
 import com.ktb.community.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
@@ -34,6 +43,26 @@ public class FileController {
         return ResponseEntity.status(HttpStatus.CREATED).body(FileUploadResponse.from(stored));
     }
 
+    // 본문 전체가 파일 (Content-Type 은 파일 형식), 파일 이름은 filename 파라미터로
+    @PostMapping("/stream")
+    public ResponseEntity<FileUploadResponse> uploadStream(@RequestParam(required = false) String filename,
+                                                           HttpServletRequest request) throws IOException {
+        File stored = fileStorageService.uploadStream(filename, request.getContentType(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(FileUploadResponse.from(stored));
+    }
+
+    @PostMapping("/presigned")
+    public ResponseEntity<PresignedUploadResponse> presign(@Valid @RequestBody PresignedUploadRequest request) {
+        FileStorageService.PresignedUpload upload = fileStorageService.presignUpload(
+                request.fileName(), request.contentType(), request.contentLength());
+        return ResponseEntity.status(HttpStatus.CREATED).body(PresignedUploadResponse.from(upload));
+    }
+
+    @PostMapping("/{fileId}/confirm")
+    public ResponseEntity<FileUploadResponse> confirm(@PathVariable Long fileId) {
+        return ResponseEntity.ok(FileUploadResponse.from(fileStorageService.confirmUpload(fileId)));
+    }
+
     private void ensureAuthenticated(UserDetails principal) {
         if (principal == null) {
             throw new org.springframework.web.server.ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
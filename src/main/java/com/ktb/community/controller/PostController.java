@@ -7,20 +7,17 @@ import com.ktb.community.dto.post.PostResponse;
 import com.ktb.community.dto.post.PostSummaryResponse;
 import com.ktb.community.dto.post.PostUpdateRequest;
 import com.ktb.community.entity.Post;
-import com.ktb.community.entity.PostVote;
 import com.ktb.community.entity.User;
 import com.ktb.community.service.PostService;
-import com.ktb.community.service.PostVoteService;
 import com.ktb.community.service.UserService;
 import com.ktb.community.support.CursorPage;
 import com.ktb.community.support.PostSortType;
+import com.ktb.community.user.CommunityUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -31,7 +28,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-@Slf4j
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
@@ -39,54 +37,40 @@ public class PostController {
 
     private final PostService postService;
     private final UserService userService;
-    private final PostVoteService postVoteService;
 
     @GetMapping
     public ResponseEntity<PostCursorResponse> list(@RequestParam(required = false) Long cursorId,
+                                                   @RequestParam(required = false) String cursor,
                                                    @RequestParam(defaultValue = "10") int size,
-                                                   @RequestParam(name = "sort", defaultValue = "latest") String sort) {
+                                                   @RequestParam(name = "sort", defaultValue = "latest") String sort,
+                                                   @AuthenticationPrincipal CommunityUserDetails principal) {
         int pageSize = Math.min(Math.max(size, 1), 50);
-        CursorPage<PostSummaryResponse> page = postService.getPosts(cursorId, pageSize,
+        CursorPage<PostSummaryResponse> page = postService.getPosts(cursorId, cursor, pageSize,
                 PostSortType.from(sort));
-        return ResponseEntity.ok(PostCursorResponse.from(page));
+        if (principal == null) {
+            return ResponseEntity.ok(PostCursorResponse.from(page));
+        }
+        // 목록 캐시는 사용자 공통이라 좋아요 여부는 캐시 밖에서 한 번에 조회
+        List<Long> postIds = page.getContents().stream().map(PostSummaryResponse::id).toList();
+        return ResponseEntity.ok(PostCursorResponse.from(page, postService.findLikedPostIds(principal.getId(), postIds)));
     }
 
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponse> get(@PathVariable Long postId,
-                                            @AuthenticationPrincipal UserDetails userPrincipal) {
-        Post post = postService.viewPost(postId);
-
-        PostResponse.CurrentUserVote currentUserVote = null;
-        if (userPrincipal != null) {
-            try {
-                User user = userService.getByEmailOrThrow(userPrincipal.getUsername());
-                log.debug("Fetching vote for postId: {}, userId: {}", postId, user.getId());
-                PostVote vote = postVoteService.getCurrentUserVote(postId, user.getId());
-                log.debug("Vote found: {}", vote != null ? "Yes (type: " + vote.getVoteType() + ", correct: " + vote.isCorrect() + ")" : "No");
-                if (vote != null) {
-                    currentUserVote = new PostResponse.CurrentUserVote(
-                            vote.getVoteType(),
-                            vote.isCorrect()
-                    );
-                }
-            } catch (Exception e) {
-                log.error("Error fetching current user vote", e);
-            }
-        } else {
-            log.debug("No authenticated user principal");
-        }
-
-        return ResponseEntity.ok(PostResponse.from(post, currentUserVote));
+                                            @AuthenticationPrincipal CommunityUserDetails userPrincipal) {
+        Long viewerId = userPrincipal != null ? userPrincipal.getId() : null;
+        return ResponseEntity.ok(postService.viewPost(postId, viewerId));
     }
 
     @PostMapping
     public ResponseEntity<PostResponse> create(@Valid @RequestBody PostCreateRequest request,
-                                               @AuthenticationPrincipal UserDetails principal) {
+                                               @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
 
+        // 로그인 시점에 담긴 권한 대신 현재 사용자 정보로 판단
         Post post;
-        if (request.authorType() != null && user.isAdmin()) {
+        if (request.authorType() != null && userService.getActiveSnapshot(principal.getId()).admin()) {
             post = postService.createPost(user, request.title(), request.content(), request.fileIds(),
                     request.authorType(), request.customAuthorName(), request.voteDeadlineHours());
         } else {
@@ -99,45 +83,56 @@ public class PostController {
     @PutMapping("/{postId}")
     public ResponseEntity<PostResponse> update(@PathVariable Long postId,
                                                @Valid @RequestBody PostUpdateRequest request,
-                                               @AuthenticationPrincipal UserDetails principal) {
+                                               @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         Post updated = postService.updatePost(postId, user, request.title(), request.content(), request.fileIds());
         return ResponseEntity.ok(PostResponse.from(updated));
     }
 
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> delete(@PathVariable Long postId,
-                                       @AuthenticationPrincipal UserDetails principal) {
+                                       @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         postService.deletePost(postId, user);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/likes")
+    public ResponseEntity<List<PostLikeResponse>> getLikes(@RequestParam List<Long> postIds,
+                                                           @AuthenticationPrincipal CommunityUserDetails principal) {
+        ensureAuthenticated(principal);
+        User user = userService.getActiveReference(principal.getId());
+        return ResponseEntity.ok(postService.checkPostsLiked(postIds, user).stream()
+                .map(PostLikeResponse::from)
+                .toList());
+    }
+
     @GetMapping("/{postId}/likes")
-    public ResponseEntity<PostLikeResponse> getLikes(@PathVariable Long postId, @AuthenticationPrincipal UserDetails principal) {
+    public ResponseEntity<PostLikeResponse> getLikes(@PathVariable Long postId, @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         return ResponseEntity.ok(PostLikeResponse.from(postService.checkPostLiked(postId, user)));
     }
 
     @PostMapping("/{postId}/likes")
     public ResponseEntity<PostLikeResponse> like(@PathVariable Long postId,
-                                                 @AuthenticationPrincipal UserDetails principal) {
+                                                 @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         return ResponseEntity.ok(PostLikeResponse.from(postService.likePost(postId, user)));
     }
 
     @DeleteMapping("/{postId}/likes")
     public ResponseEntity<PostLikeResponse> unlike(@PathVariable Long postId,
-                                                   @AuthenticationPrincipal UserDetails principal) {
+                                                   @AuthenticationPrincipal CommunityUserDetails principal) {
         ensureAuthenticated(principal);
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         return ResponseEntity.ok(PostLikeResponse.from(postService.unlikePost(postId, user)));
     }
 
-    private void ensureAuthenticated(UserDetails principal) {
+    private void ensureAuthenticated(CommunityUserDetails principal) {
         if (principal == null) {
             throw new org.springframework.web.server.ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
         }
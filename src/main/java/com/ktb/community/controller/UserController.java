@@ -3,12 +3,12 @@ package com.ktb.community.controller;
 import com.ktb.community.dto.user.*;
 import com.ktb.community.entity.User;
 import com.ktb.community.service.UserService;
+import com.ktb.community.user.CommunityUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -37,40 +37,39 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> me(@AuthenticationPrincipal UserDetails principal) {
+    public ResponseEntity<UserResponse> me(@AuthenticationPrincipal CommunityUserDetails principal) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        User user = userService.getByEmailOrThrow(principal.getUsername());
-        return ResponseEntity.ok(UserResponse.from(user));
+        return ResponseEntity.ok(UserResponse.from(userService.getActiveSnapshot(principal.getId())));
     }
 
     @PutMapping("/me")
-    public ResponseEntity<UserResponse> me(@Valid @RequestBody UserEditRequest request, @AuthenticationPrincipal UserDetails principal) {
+    public ResponseEntity<UserResponse> me(@Valid @RequestBody UserEditRequest request, @AuthenticationPrincipal CommunityUserDetails principal) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        User user = userService.getByEmailOrThrow(principal.getUsername());
-        User updatedUser = userService.updateUserProfile(user.getId(), request.email(), request.nickname(), request.profileImageId());
+        userService.getActiveSnapshot(principal.getId());
+        User updatedUser = userService.updateUserProfile(principal.getId(), request.email(), request.nickname(), request.profileImageId());
         return ResponseEntity.status(HttpStatus.OK).body(UserResponse.from(updatedUser));
     }
 
     @PostMapping("/me/password")
-    public ResponseEntity<Void> changePassword(@Valid @RequestBody UserPasswordChangeRequest request, @AuthenticationPrincipal UserDetails principal) {
+    public ResponseEntity<Void> changePassword(@Valid @RequestBody UserPasswordChangeRequest request, @AuthenticationPrincipal CommunityUserDetails principal) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        User user = userService.getByEmailOrThrow(principal.getUsername());
-        userService.updateUserPassword(user.getId(), request.oldPassword(), request.newPassword());
+        userService.getActiveSnapshot(principal.getId());
+        userService.updateUserPassword(principal.getId(), request.oldPassword(), request.newPassword());
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping
-    public ResponseEntity<Void> delete(@AuthenticationPrincipal UserDetails principal) {
+    public ResponseEntity<Void> delete(@AuthenticationPrincipal CommunityUserDetails principal) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        User user = userService.getByEmailOrThrow(principal.getUsername());
+        User user = userService.getActiveReference(principal.getId());
         userService.markDeleted(user);
         return ResponseEntity.noContent().build();
     }
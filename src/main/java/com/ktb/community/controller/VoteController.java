@@ -1,16 +1,15 @@
 package com.ktb.community.controller;
 
 import com.ktb.community.dto.vote.*;
-import com.ktb.community.entity.User;
 import com.ktb.community.service.PostVoteService;
 import com.ktb.community.service.UserScoreService;
 import com.ktb.community.service.UserService;
+import com.ktb.community.user.CommunityUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -28,19 +27,19 @@ public class VoteController {
     public ResponseEntity<Map<String, Object>> votePost(
             @PathVariable Long postId,
             @Valid @RequestBody VoteRequest request,
-            @AuthenticationPrincipal UserDetails userPrincipal
+            @AuthenticationPrincipal CommunityUserDetails userPrincipal
     ) {
-        User user = userService.getByEmailOrThrow(userPrincipal.getUsername());
-        VoteResponse response = postVoteService.votePost(postId, user.getId(), request);
+        userService.getActiveSnapshot(userPrincipal.getId());
+        VoteResponse response = postVoteService.votePost(postId, userPrincipal.getId(), request);
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
 
     @GetMapping("/users/me/vote-score")
     public ResponseEntity<Map<String, Object>> getUserVoteScore(
-            @AuthenticationPrincipal UserDetails userPrincipal
+            @AuthenticationPrincipal CommunityUserDetails userPrincipal
     ) {
-        User user = userService.getByEmailOrThrow(userPrincipal.getUsername());
-        UserVoteScoreResponse response = postVoteService.getUserVoteScore(user.getId());
+        userService.getActiveSnapshot(userPrincipal.getId());
+        UserVoteScoreResponse response = postVoteService.getUserVoteScore(userPrincipal.getId());
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
 
@@ -53,14 +52,13 @@ public class VoteController {
     @GetMapping("/rankings")
     public ResponseEntity<Map<String, Object>> getUserRankings(
             @RequestParam(defaultValue = "100") int limit,
-            @AuthenticationPrincipal UserDetails userPrincipal
+            @AuthenticationPrincipal CommunityUserDetails userPrincipal
     ) {
         int pageLimit = Math.min(Math.max(limit, 1), 100);
         Long currentUserId = null;
 
         if (userPrincipal != null) {
-            User user = userService.getByEmailOrThrow(userPrincipal.getUsername());
-            currentUserId = user.getId();
+            currentUserId = userPrincipal.getId();
         }
 
         UserRankingResponse.RankingListResponse response = userScoreService.getTopRankings(pageLimit, currentUserId);
@@ -0,0 +1,21 @@
+package com.ktb.community.dto.comment;
+
+import com.ktb.community.service.CommentService;
+
+import java.util.List;
+
+public record CommentCursorResponse(
+        List<CommentResponse> items,
+        Long nextCursor,
+        boolean hasNext,
+        long totalCount
+) {
+
+    public static CommentCursorResponse from(CommentService.CommentCursorResult result) {
+        List<CommentResponse> items = result.page().getContents().stream()
+                .map(CommentResponse::from)
+                .toList();
+        return new CommentCursorResponse(items, result.page().getNextCursor(), result.page().isHasNext(),
+                result.totalCount());
+    }
+}
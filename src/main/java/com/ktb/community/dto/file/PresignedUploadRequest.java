@@ -0,0 +1,14 @@
+package com.ktb.community.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record PresignedUploadRequest(
+        @NotBlank @Size(max = 255) String fileName,
+        @NotBlank String contentType,
+        // 올릴 파일의 바이트 수, PUT 의 Content-Length 가 이 값과 같아야 한다
+        @NotNull @Positive Long contentLength
+) {
+}
@@ -0,0 +1,18 @@
+package com.ktb.community.dto.file;
+
+import com.ktb.community.service.FileStorageService;
+
+import java.time.Instant;
+
+// 클라이언트는 uploadUrl 로 PUT (Content-Type 은 contentType, Content-Length 는 요청에 선언한 크기 그대로) 한 뒤 confirm 을 호출한다
+public record PresignedUploadResponse(
+        Long fileId,
+        String uploadUrl,
+        String contentType,
+        Instant expiresAt
+) {
+
+    public static PresignedUploadResponse from(FileStorageService.PresignedUpload upload) {
+        return new PresignedUploadResponse(upload.file().getId(), upload.uploadUrl(), upload.contentType(), upload.expiresAt());
+    }
+}
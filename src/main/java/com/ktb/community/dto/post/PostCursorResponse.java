@@ -2,15 +2,27 @@ package com.ktb.community.dto.post;
 
 import com.ktb.community.support.CursorPage;
 
+import java.util.Collection;
 import java.util.List;
 
+// likedPostIds: 로그인한 경우에만, 이 페이지에서 내가 좋아요한 게시글 id (비로그인이면 null)
 public record PostCursorResponse(
         List<PostSummaryResponse> items,
         Long nextCursor,
-        boolean hasNext
+        String nextCursorToken,
+        boolean hasNext,
+        List<Long> likedPostIds
 ) {
 
     public static PostCursorResponse from(CursorPage<PostSummaryResponse> page) {
-        return new PostCursorResponse(page.getContents(), page.getNextCursor(), page.isHasNext());
+        return new PostCursorResponse(page.getContents(), page.getNextCursor(), page.getNextCursorToken(), page.isHasNext(), null);
+    }
+
+    public static PostCursorResponse from(CursorPage<PostSummaryResponse> page, Collection<Long> likedPostIds) {
+        List<Long> liked = page.getContents().stream()
+                .map(PostSummaryResponse::id)
+                .filter(likedPostIds::contains)
+                .toList();
+        return new PostCursorResponse(page.getContents(), page.getNextCursor(), page.getNextCursorToken(), page.isHasNext(), liked);
     }
 }
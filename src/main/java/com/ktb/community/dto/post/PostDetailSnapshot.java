@@ -0,0 +1,67 @@
+package com.ktb.community.dto.post;
+
+import com.ktb.community.dto.user.UserResponse;
+import com.ktb.community.entity.AuthorType;
+import com.ktb.community.entity.File;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.VoteType;
+
+import java.time.Instant;
+import java.util.List;
+
+// 게시글 상세에서 카운터를 뺀, 수정/삭제/정답 공개 때만 바뀌는 부분 (캐시 대상)
+public record PostDetailSnapshot(
+        Long id,
+        String title,
+        String content,
+        UserResponse author,
+        String authorName,
+        boolean isCustomAuthor,
+        String customAuthorName,
+        AuthorType authorType,
+        Instant voteDeadlineAt,
+        Instant answerRevealedAt,
+        List<String> fileUrls,
+        List<String> thumbnailUrls,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static PostDetailSnapshot from(Post post) {
+        List<String> fileUrls = post.getFiles().stream()
+                .map(File::getFileUrl)
+                .toList();
+        List<String> thumbnailUrls = post.getFiles().stream()
+                .map(File::getThumbnailUrlOrOriginal)
+                .toList();
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                UserResponse.from(post.getUser()),
+                post.getDisplayAuthorName(),
+                post.getCustomAuthorName() != null,
+                post.getCustomAuthorName(),
+                post.getAuthorType(),
+                post.getVoteDeadlineAt(),
+                post.getAnswerRevealedAt(),
+                fileUrls,
+                thumbnailUrls,
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    public boolean answerRevealed() {
+        return answerRevealedAt != null;
+    }
+
+    // Post.canVote 와 같은 조건 (삭제된 게시글은 스냅샷이 없음)
+    public boolean canVote() {
+        return answerRevealedAt == null && (voteDeadlineAt == null || !Instant.now().isAfter(voteDeadlineAt));
+    }
+
+    public boolean isCorrectVote(VoteType voteType) {
+        return authorType != null && authorType.name().equals(voteType.name());
+    }
+}
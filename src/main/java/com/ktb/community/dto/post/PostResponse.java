@@ -6,6 +6,7 @@ import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostStats;
 import com.ktb.community.entity.VoteType;
 import com.ktb.community.dto.user.UserResponse;
+import com.ktb.community.repository.projection.PostCounters;
 
 import java.time.Instant;
 import java.util.List;
@@ -25,6 +26,8 @@ public record PostResponse(
         CurrentUserVote currentUserVote,
         VoteStats voteStats,
         List<String> fileUrls,
+        // 미리보기용 축소본 (fileUrls 와 같은 순서, 아직 없으면 원본 URL)
+        List<String> thumbnailUrls,
         Instant createdAt,
         Instant updatedAt,
         long viewCount,
@@ -51,6 +54,9 @@ public record PostResponse(
         List<String> fileUrls = post.getFiles().stream()
                 .map(File::getFileUrl)
                 .toList();
+        List<String> thumbnailUrls = post.getFiles().stream()
+                .map(File::getThumbnailUrlOrOriginal)
+                .toList();
         PostStats stats = post.getStats();
         long viewCount = stats != null ? stats.getViewCount() : 0L;
         long likeCount = stats != null ? stats.getLikeCount() : 0L;
@@ -85,6 +91,7 @@ public record PostResponse(
                 currentUserVote,
                 voteStats,
                 fileUrls,
+                thumbnailUrls,
                 post.getCreatedAt(),
                 post.getUpdatedAt(),
                 viewCount,
@@ -92,4 +99,30 @@ public record PostResponse(
                 replyCount
         );
     }
+
+    public static PostResponse from(PostDetailSnapshot snapshot, PostCounters counters, CurrentUserVote currentUserVote) {
+        boolean answerRevealed = snapshot.answerRevealed();
+        return new PostResponse(
+                snapshot.id(),
+                snapshot.title(),
+                snapshot.content(),
+                snapshot.author(),
+                snapshot.authorName(),
+                snapshot.isCustomAuthor(),
+                snapshot.customAuthorName(),
+                answerRevealed ? snapshot.authorType() : null,
+                answerRevealed,
+                snapshot.voteDeadlineAt(),
+                snapshot.answerRevealedAt(),
+                currentUserVote,
+                new VoteStats(counters.aiVoteCount(), counters.humanVoteCount(), counters.totalVoteCount()),
+                snapshot.fileUrls(),
+                snapshot.thumbnailUrls(),
+                snapshot.createdAt(),
+                snapshot.updatedAt(),
+                counters.viewCount(),
+                counters.likeCount(),
+                counters.replyCount()
+        );
+    }
 }
@@ -8,6 +8,7 @@ public record PostSummaryResponse(
         Long id,
         String title,
         String content,
+        boolean hasMore,
         Long authorId,
         String authorName,
         boolean isCustomAuthor,
@@ -22,11 +23,16 @@ public record PostSummaryResponse(
     public static PostSummaryResponse from(PostSummaryProjection projection) {
         boolean isCustomAuthor = projection.customAuthorName() != null;
         String authorName = isCustomAuthor ? projection.customAuthorName() : projection.authorNickname();
+        String content = projection.content();
+        // contentLength 는 CHAR_LENGTH(code point 수)라 String.length() 가 아닌 codePointCount 와 비교
+        boolean hasMore = content != null && projection.contentLength() != null
+                && projection.contentLength() > content.codePointCount(0, content.length());
 
         return new PostSummaryResponse(
                 projection.id(),
                 projection.title(),
-                projection.content(),
+                content,
+                hasMore,
                 projection.authorId(),
                 authorName,
                 isCustomAuthor,
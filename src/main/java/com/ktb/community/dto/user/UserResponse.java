@@ -2,6 +2,7 @@ package com.ktb.community.dto.user;
 
 import com.ktb.community.entity.File;
 import com.ktb.community.entity.User;
+import com.ktb.community.user.UserSnapshot;
 
 public record UserResponse(
         Long id,
@@ -16,7 +17,16 @@ public record UserResponse(
                 user.getId(),
                 user.getEmail(),
                 user.getNickname(),
-                profileImage != null ? profileImage.getFileUrl() : null
+                profileImage != null ? profileImage.getAvatarUrlOrOriginal() : null
+        );
+    }
+
+    public static UserResponse from(UserSnapshot snapshot) {
+        return new UserResponse(
+                snapshot.id(),
+                snapshot.email(),
+                snapshot.nickname(),
+                snapshot.profileImageUrl()
         );
     }
 }
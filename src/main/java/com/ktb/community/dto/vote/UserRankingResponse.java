@@ -1,9 +1,13 @@
 package com.ktb.community.dto.vote;
 
+import com.ktb.community.entity.UserRank;
 import com.ktb.community.entity.UserScore;
+import com.ktb.community.ranking.LeaderboardEntry;
+import com.ktb.community.user.UserSnapshot;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.List;
 
 @Getter
@@ -25,7 +29,7 @@ public class UserRankingResponse {
                 : 0.0;
 
         String profileImageUrl = userScore.getUser().getProfileImage() != null
-                ? userScore.getUser().getProfileImage().getFileUrl()
+                ? userScore.getUser().getProfileImage().getAvatarUrlOrOriginal()
                 : null;
 
         return UserRankingResponse.builder()
@@ -40,11 +44,32 @@ public class UserRankingResponse {
                 .build();
     }
 
+    public static UserRankingResponse of(LeaderboardEntry entry, UserSnapshot user, int rank) {
+        return UserRankingResponse.builder()
+                .userId(entry.userId())
+                .nickname(user.nickname())
+                .profileImageUrl(user.profileImageUrl())
+                .voteScore(entry.voteScore())
+                .totalVotes(entry.totalVotes())
+                .correctVotes(entry.correctVotes())
+                .accuracy(entry.accuracy())
+                .rank(rank)
+                .build();
+    }
+
+    public static UserRankingResponse of(UserRank userRank, UserSnapshot user) {
+        return of(new LeaderboardEntry(userRank.getUserId(), userRank.getVoteScore(),
+                userRank.getTotalVotes(), userRank.getCorrectVotes()), user, (int) userRank.getRanking());
+    }
+
     @Getter
     @Builder
     public static class RankingListResponse {
         private List<UserRankingResponse> rankings;
         private int totalUsers;
         private UserRankingResponse myRanking;
+        // 순위를 계산한 시각과, 실제 점수보다 늦을 수 있는 최대 시간 (실시간이면 0)
+        private Instant rankedAt;
+        private long maxStalenessSeconds;
     }
 }
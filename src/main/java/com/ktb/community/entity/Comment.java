@@ -13,7 +13,7 @@ import java.time.Instant;
 
 @Getter
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_post_deleted_at_id", columnList = "post_id, deleted_at, id DESC"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Comment implements OwnedByUser {
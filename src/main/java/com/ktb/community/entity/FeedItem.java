@@ -0,0 +1,101 @@
+package com.ktb.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// GET /api/posts 전용 읽기 모델, post/user/post_stats 를 join 하지 않도록 목록에 필요한 값만 비정규화
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "feed_item",
+    indexes = {
+        @Index(name = "idx_feed_item_like_count", columnList = "like_count DESC, id DESC"),
+        @Index(name = "idx_feed_item_reply_count", columnList = "reply_count DESC, id DESC"),
+        @Index(name = "idx_feed_item_view_count", columnList = "view_count DESC, id DESC"),
+        @Index(name = "idx_feed_item_author_id", columnList = "author_id")
+    }
+)
+public class FeedItem {
+
+    public static final int PREVIEW_LENGTH = 300;
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    @Column(length = PREVIEW_LENGTH)
+    private String contentPreview;
+
+    // 전체 본문 길이, 목록에서 "더보기" 여부 판단용
+    @Column(nullable = false)
+    private int contentLength;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    @Column(length = 50)
+    private String authorNickname;
+
+    @Column(length = 50)
+    private String customAuthorName;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long replyCount;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    private FeedItem(Post post) {
+        PostStats stats = post.getStats();
+        this.id = post.getId();
+        this.title = post.getTitle();
+        this.contentPreview = preview(post.getContent());
+        this.contentLength = lengthOf(post.getContent());
+        this.authorId = post.getUser().getId();
+        this.authorNickname = post.getUser().getNickname();
+        this.customAuthorName = post.getCustomAuthorName();
+        this.viewCount = stats != null ? stats.getViewCount() : 0L;
+        this.likeCount = stats != null ? stats.getLikeCount() : 0L;
+        this.replyCount = stats != null ? stats.getReplyCount() : 0L;
+        this.createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : Instant.now();
+        this.updatedAt = post.getUpdatedAt() != null ? post.getUpdatedAt() : this.createdAt;
+    }
+
+    public static FeedItem from(Post post) {
+        return new FeedItem(post);
+    }
+
+    public void update(String title, String content) {
+        this.title = title;
+        this.contentPreview = preview(content);
+        this.contentLength = lengthOf(content);
+        this.updatedAt = Instant.now();
+    }
+
+    // DB 의 SUBSTRING/CHAR_LENGTH 와 같게 code point 단위로 자르고 센다 (이모지가 반으로 잘리지 않게)
+    public static String preview(String content) {
+        if (content == null || lengthOf(content) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
+
+    private static int lengthOf(String content) {
+        return content == null ? 0 : content.codePointCount(0, content.length());
+    }
+}
@@ -36,9 +36,22 @@ public class File {
     @Column(nullable = false)
     private int fileSize;
 
+    // 서버를 거쳐 올라온 파일의 SHA-256 (hex), presigned 업로드는 서버가 내용을 보지 않으므로 null
+    @Column(length = 64)
+    private String contentHash;
+
+    // 이미지 변형은 업로드 후 비동기로 만들어지므로 그 전에는 null
+    private String thumbnailUrl;
+
+    private String avatarUrl;
+
     @Column(name = "is_committed")
     private boolean committed;
 
+    // presigned URL 로 올리는 파일은 confirm 에서 S3 객체를 확인한 뒤에 true
+    @Column(name = "is_uploaded", nullable = false)
+    private boolean uploaded;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -50,15 +63,49 @@ public class File {
     private Instant deletedAt;
 
     public static File pending(String originalFileName, String storageKey, String fileUrl, int fileSize) {
+        return pending(originalFileName, storageKey, fileUrl, fileSize, null);
+    }
+
+    public static File pending(String originalFileName, String storageKey, String fileUrl, int fileSize, String contentHash) {
         return File.builder()
                 .originalFileName(originalFileName)
                 .storageKey(storageKey)
                 .fileUrl(fileUrl)
-                .fileSize(0)
+                .fileSize(fileSize)
+                .contentHash(contentHash)
                 .committed(false)
+                .uploaded(true)
                 .build();
     }
 
+    // 같은 내용의 기존 파일과 S3 객체(와 이미지 변형)를 공유하는 새 row
+    public static File sharing(String originalFileName, File source) {
+        File file = pending(originalFileName, source.storageKey, source.fileUrl, source.fileSize, source.contentHash);
+        file.thumbnailUrl = source.thumbnailUrl;
+        file.avatarUrl = source.avatarUrl;
+        return file;
+    }
+
+    // fileSize 는 presign 때 선언한 크기, confirm 에서 실제 객체 크기와 비교한다
+    public static File awaitingUpload(String originalFileName, String storageKey, String fileUrl, int declaredSize) {
+        File file = pending(originalFileName, storageKey, fileUrl, declaredSize);
+        file.uploaded = false;
+        return file;
+    }
+
+    public void markUploaded(int fileSize) {
+        this.fileSize = fileSize;
+        this.uploaded = true;
+    }
+
+    public String getThumbnailUrlOrOriginal() {
+        return thumbnailUrl != null ? thumbnailUrl : fileUrl;
+    }
+
+    public String getAvatarUrlOrOriginal() {
+        return avatarUrl != null ? avatarUrl : fileUrl;
+    }
+
     public void markCommitted() {
         this.committed = true;
     }
@@ -18,6 +18,12 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(
+    indexes = {
+        @Index(name = "idx_post_deleted_at_id", columnList = "deleted_at, id DESC"),
+        @Index(name = "idx_post_vote_deadline_at", columnList = "vote_deadline_at")
+    }
+)
 public class Post implements OwnedByUser {
 
     @Id
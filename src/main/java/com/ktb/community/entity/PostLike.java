@@ -37,13 +37,4 @@ public class PostLike {
     @CreatedDate
     @Column(nullable = false)
     private Instant createdAt;
-
-    private PostLike(User user, Post post) {
-        this.user = user;
-        this.post = post;
-    }
-
-    public static PostLike of(User user, Post post) {
-        return new PostLike(user, post);
-    }
 }
@@ -6,7 +6,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_stats")
+@Table(
+    name = "post_stats",
+    indexes = {
+        @Index(name = "idx_post_stats_like_count", columnList = "like_count DESC, post_id DESC"),
+        @Index(name = "idx_post_stats_reply_count", columnList = "reply_count DESC, post_id DESC"),
+        @Index(name = "idx_post_stats_view_count", columnList = "view_count DESC, post_id DESC")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostStats {
@@ -57,38 +64,4 @@ public class PostStats {
         this.post = post;
         // this.postId = post.getId(); MapsId 로 자동생성, 여기서 수동으로 값 부여시 StaleObjectStateException 발생
     }
-
-    public void incrementLike() {
-        this.likeCount++;
-    }
-
-    public void decrementLike() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    public void incrementView() {
-        this.viewCount++;
-    }
-
-    public void incrementReply() {
-        this.replyCount++;
-    }
-
-    public void decrementReply() {
-        if (this.replyCount > 0) {
-            this.replyCount--;
-        }
-    }
-
-    public void incrementAiVote() {
-        this.aiVoteCount++;
-        this.totalVoteCount++;
-    }
-
-    public void incrementHumanVote() {
-        this.humanVoteCount++;
-        this.totalVoteCount++;
-    }
 }
@@ -22,7 +22,8 @@ import java.time.Instant;
     ),
     indexes = {
         @Index(name = "idx_post_vote_post_id", columnList = "post_id"),
-        @Index(name = "idx_post_vote_user_id", columnList = "user_id")
+        @Index(name = "idx_post_vote_user_id", columnList = "user_id"),
+        @Index(name = "idx_post_vote_created_at", columnList = "created_at")
     }
 )
 public class PostVote {
@@ -68,6 +69,16 @@ public class PostVote {
                 .build();
     }
 
+    // 정답 여부를 이미 아는 경우 (user/post 는 getReference 프록시여도 됨)
+    public static PostVote of(User user, Post post, VoteType voteType, boolean isCorrect) {
+        return PostVote.builder()
+                .user(user)
+                .post(post)
+                .voteType(voteType)
+                .isCorrect(isCorrect)
+                .build();
+    }
+
     private static boolean calculateCorrectness(Post post, VoteType voteType) {
         if (post.getAuthorType() == null) {
             return false;
@@ -0,0 +1,40 @@
+package com.ktb.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// user_score 의 순위 스냅샷, UserRankSnapshotRepository.materialize 로만 채운다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "user_rank",
+    indexes = {
+        @Index(name = "uk_user_rank_ranking", columnList = "ranking", unique = true)
+    }
+)
+public class UserRank {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long ranking;
+
+    @Column(nullable = false)
+    private int voteScore;
+
+    @Column(nullable = false)
+    private long totalVotes;
+
+    @Column(nullable = false)
+    private long correctVotes;
+
+    @Column(nullable = false)
+    private Instant snapshotAt;
+}
@@ -42,6 +42,10 @@ public class UserScore {
     @Column(nullable = false)
     private long correctVotes;
 
+    // 투표 반영/재계산 쿼리만 갱신 (UserScoreCounterRepository)
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long lastVoteId;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
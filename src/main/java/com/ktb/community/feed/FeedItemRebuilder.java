@@ -0,0 +1,55 @@
+package com.ktb.community.feed;
+
+import com.ktb.community.repository.FeedItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// feed_item 을 post/user/post_stats 로부터 다시 채운다
+// 실행: java -jar community.jar --feed.rebuild-on-startup=true
+@Slf4j
+@Component
+public class FeedItemRebuilder implements ApplicationRunner {
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final FeedItemRepository feedItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildOnStartup;
+
+    public FeedItemRebuilder(FeedItemRepository feedItemRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${feed.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.feedItemRepository = feedItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    public long rebuild() {
+        Long maxPostId = feedItemRepository.findMaxPostId();
+        if (maxPostId == null) {
+            return 0L;
+        }
+        long rebuilt = 0L;
+        // 구간마다 트랜잭션을 나눠 긴 트랜잭션/대량 undo 를 피한다
+        for (long from = 0L; from < maxPostId; from += CHUNK_SIZE) {
+            long lower = from;
+            long upper = Math.min(from + CHUNK_SIZE, maxPostId);
+            Integer inserted = transactionTemplate.execute(status -> feedItemRepository.rebuildRange(lower, upper));
+            rebuilt += inserted != null ? inserted : 0;
+        }
+        log.info("Rebuilt {} feed items up to post id {}", rebuilt, maxPostId);
+        return rebuilt;
+    }
+}
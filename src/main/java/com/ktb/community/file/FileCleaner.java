@@ -1,37 +1,168 @@
 package com.ktb.community.file;
 
-import com.ktb.community.entity.File;
 import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.projection.OrphanFile;
 import com.ktb.community.service.FileStorageService;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+// 게시글에 붙지 않은 채 만료된 파일을 S3 와 DB 에서 정리
+// id 순 keyset 으로 chunk 를 읽고, chunk 마다 row claim 트랜잭션 + S3 DeleteObjects (원본 + 이미지 변형), 최대 parallelism 개 chunk 를 동시에 처리
+// 여러 인스턴스가 떠 있어도 shedlock 으로 한 곳에서만 실행
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class FileCleaner {
     private static final Duration ORPHAN_RETENTION = Duration.ofHours(1);
+    // chunk 하나가 markDeleted 의 IN 절 하나가 되므로 너무 커지지 않게
+    private static final int MAX_CHUNK_SIZE = 1000;
 
     private final FileStorageService fileStorageService;
     private final FileRepository fileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Counter purgedCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+
+    public FileCleaner(FileStorageService fileStorageService,
+                       FileRepository fileRepository,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${file.cleaner.chunk-size:1000}") int chunkSize,
+                       @Value("${file.cleaner.parallelism:4}") int parallelism) {
+        this.fileStorageService = fileStorageService;
+        this.fileRepository = fileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.clamp(chunkSize, 1, MAX_CHUNK_SIZE);
+        this.parallelism = Math.max(parallelism, 1);
+        this.purgedCounter = Counter.builder("file.cleaner.purged")
+                .description("Orphaned files deleted from S3 and marked deleted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("file.cleaner.failed")
+                .description("Orphaned files S3 refused to delete, retried on the next run")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("file.cleaner.duration")
+                .description("Time taken by one orphaned file cleanup run")
+                .register(meterRegistry);
+    }
+
     // 매 시간 고아 파일 cleanup
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
+    @SchedulerLock(name = "fileCleaner", lockAtMostFor = "PT50M", lockAtLeastFor = "PT1M")
     public void cleanUpOrphanedFiles() {
+        Timer.Sample sample = Timer.start();
+        int purged = purgeOrphans();
+        sample.stop(runTimer);
+        if (purged > 0) {
+            log.info("Purged {} orphaned files", purged);
+        }
+    }
+
+    int purgeOrphans() {
         Instant expiration = Instant.now().minus(ORPHAN_RETENTION);
-        List<File> orphans = fileRepository.findByCommittedFalseAndDeletedAtIsNullAndCreatedAtBefore(expiration);
-        if (orphans.isEmpty()) {
-            return;
+        Semaphore inFlight = new Semaphore(parallelism);
+        AtomicInteger purged = new AtomicInteger();
+        // close 가 제출한 chunk 가 모두 끝날 때까지 기다린다
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("file-cleaner-", 0).factory())) {
+            long afterId = 0L;
+            while (true) {
+                List<OrphanFile> chunk = fileRepository.findOrphans(expiration, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.getLast().id();
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        purged.addAndGet(purgeChunk(chunk));
+                    } catch (RuntimeException ex) {
+                        failedCounter.increment(chunk.size());
+                        log.warn("Failed to purge {} orphaned files", chunk.size(), ex);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+        }
+        return purged.get();
+    }
+
+    // 먼저 아직 미사용인 row 만 삭제 처리(claim)해 커밋하고, 그렇게 가져간 파일의 S3 객체만 지운다
+    // 그 사이 게시글/프로필에 붙은 파일은 committed 라 claim 되지 않는다
+    // 같은 내용이라 S3 객체를 공유하는 다른 살아있는 row 가 있으면 객체는 남긴다
+    // 원본이 지워졌으면 삭제로 본다 (없는 변형 key 는 S3 가 그냥 성공 처리하고, 남은 변형은 다시 가리킬 곳이 없다)
+    private int purgeChunk(List<OrphanFile> chunk) {
+        List<OrphanFile> claimed = claim(chunk.stream().map(OrphanFile::id).toList());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<Long> claimedIds = claimed.stream().map(OrphanFile::id).toList();
+        Set<String> sharedKeys = fileRepository.findReferencedStorageKeys(
+                claimed.stream().map(OrphanFile::storageKey).collect(Collectors.toSet()), claimedIds);
+        List<String> storageKeys = claimed.stream()
+                .map(OrphanFile::storageKey)
+                .filter(key -> !sharedKeys.contains(key))
+                .distinct()
+                .flatMap(key -> Stream.concat(Stream.of(key), ImageVariant.storageKeysOf(key)))
+                .toList();
+        Set<String> deletedKeys;
+        try {
+            deletedKeys = fileStorageService.deleteAll(storageKeys);
+        } catch (RuntimeException ex) {
+            restore(claimedIds);
+            throw ex;
+        }
+        List<Long> failedIds = claimed.stream()
+                .filter(file -> !sharedKeys.contains(file.storageKey()) && !deletedKeys.contains(file.storageKey()))
+                .map(OrphanFile::id)
+                .toList();
+        if (!failedIds.isEmpty()) {
+            restore(failedIds);
+            failedCounter.increment(failedIds.size());
         }
-        orphans.forEach(file -> {
-            fileStorageService.delete(file.getStorageKey());
-            file.markDeleted();
+        int purged = claimed.size() - failedIds.size();
+        purgedCounter.increment(purged);
+        return purged;
+    }
+
+    private List<OrphanFile> claim(List<Long> ids) {
+        List<OrphanFile> claimed = transactionTemplate.execute(status -> {
+            List<OrphanFile> orphans = fileRepository.findOrphansForUpdate(ids).stream()
+                    .map(file -> new OrphanFile(file.getId(), file.getStorageKey()))
+                    .toList();
+            if (!orphans.isEmpty()) {
+                fileRepository.markDeleted(orphans.stream().map(OrphanFile::id).toList(), Instant.now());
+            }
+            return orphans;
         });
+        return claimed == null ? List.of() : claimed;
     }
 
+    private void restore(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> fileRepository.restoreDeleted(ids));
+    }
 }
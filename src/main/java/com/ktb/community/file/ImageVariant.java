@@ -0,0 +1,43 @@
+package com.ktb.community.file;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+// 원본과 같은 위치에 접미사만 붙여 저장 (uploads/{uuid} -> uploads/{uuid}_thumbnail.jpg)
+// 그래서 URL 도 원본 URL 에 접미사를 붙여 만들 수 있고, 정리할 때도 key 만으로 함께 지울 수 있다
+public enum ImageVariant {
+    // 피드/게시글 미리보기: 긴 변 기준 640px 안으로 축소
+    THUMBNAIL("_thumbnail.jpg", 640, false),
+    // 프로필: 가운데를 정사각형으로 잘라 160px
+    AVATAR("_avatar.jpg", 160, true);
+
+    private final String suffix;
+    private final int size;
+    private final boolean squareCrop;
+
+    ImageVariant(String suffix, int size, boolean squareCrop) {
+        this.suffix = suffix;
+        this.size = size;
+        this.squareCrop = squareCrop;
+    }
+
+    public String storageKeyOf(String originalStorageKey) {
+        return originalStorageKey + suffix;
+    }
+
+    public String urlOf(String originalUrl) {
+        return originalUrl + suffix;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean squareCrop() {
+        return squareCrop;
+    }
+
+    public static Stream<String> storageKeysOf(String originalStorageKey) {
+        return Arrays.stream(values()).map(variant -> variant.storageKeyOf(originalStorageKey));
+    }
+}
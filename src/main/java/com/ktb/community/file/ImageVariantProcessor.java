@@ -0,0 +1,216 @@
+package com.ktb.community.file;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.entity.File;
+import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 업로드된 이미지로 ImageVariant 별 JPEG 축소본을 만들어 S3 에 올리고 File 에 URL 을 기록
+// 고정 크기 worker + 제한된 큐, 큐가 가득 차거나 실패하면 변형 없이 원본 URL 을 계속 쓴다
+// (JDK ImageIO 에는 WebP 인코더가 없어 JPEG 로 만든다)
+@Slf4j
+@Component
+public class ImageVariantProcessor implements DisposableBean {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final AmazonS3Client s3Client;
+    private final FileRepository fileRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucketName;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantProcessor(AmazonS3Client s3Client,
+                                 FileRepository fileRepository,
+                                 PostRepository postRepository,
+                                 UserRepository userRepository,
+                                 CacheManager cacheManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${aws.s3.bucket}") String bucketName,
+                                 @Value("${file.variants.workers:2}") int workers,
+                                 @Value("${file.variants.queue-capacity:200}") int queueCapacity,
+                                 @Value("${file.variants.max-pixels:16000000}") long maxPixels) {
+        this.s3Client = s3Client;
+        this.fileRepository = fileRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bucketName = bucketName;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variant-", 0).daemon().factory());
+    }
+
+    public void submit(File file, String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return;
+        }
+        Long fileId = file.getId();
+        String storageKey = file.getStorageKey();
+        String fileUrl = file.getFileUrl();
+        try {
+            executor.execute(() -> process(fileId, storageKey, fileUrl));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Image variant queue is full, file {} keeps its original only", fileId);
+        }
+    }
+
+    void process(Long fileId, String storageKey, String fileUrl) {
+        try {
+            BufferedImage original = read(storageKey);
+            if (original == null) {
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                upload(variant.storageKeyOf(storageKey), encodeJpeg(resize(original, variant)));
+            }
+            transactionTemplate.executeWithoutResult(status -> fileRepository.updateVariantUrls(fileId,
+                    ImageVariant.THUMBNAIL.urlOf(fileUrl), ImageVariant.AVATAR.urlOf(fileUrl)));
+            evictSnapshots(fileId);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to create image variants for file {}", fileId, ex);
+        }
+    }
+
+    // 캐시된 게시글 상세/사용자 스냅샷에는 원본 URL 이 들어 있으므로 커밋 뒤에 비워 변형 URL 이 보이게 한다
+    private void evictSnapshots(Long fileId) {
+        Cache postDetail = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        if (postDetail != null) {
+            postRepository.findIdsByAttachedFileId(fileId).forEach(postDetail::evict);
+            postRepository.findIdsByAuthorProfileImageId(fileId).forEach(postDetail::evict);
+        }
+        Cache userSnapshot = cacheManager.getCache(CacheConfig.USER_SNAPSHOT);
+        if (userSnapshot != null) {
+            userRepository.findIdsByProfileImageId(fileId).forEach(userSnapshot::evict);
+        }
+    }
+
+    // 디코딩 전에 헤더의 크기를 보고, 너무 큰 이미지(압축 폭탄)나 읽을 수 없는 형식은 건너뛴다
+    private BufferedImage read(String storageKey) throws IOException {
+        try (S3Object object = s3Client.getObject(bucketName, storageKey);
+             ImageInputStream in = ImageIO.createImageInputStream(object.getObjectContent())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.info("Skipping image variants for {}: too many pixels", storageKey);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static BufferedImage resize(BufferedImage original, ImageVariant variant) {
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int sourceX = 0;
+        int sourceY = 0;
+        int sourceWidth = width;
+        int sourceHeight = height;
+        int targetWidth;
+        int targetHeight;
+        if (variant.squareCrop()) {
+            int side = Math.min(width, height);
+            sourceX = (width - side) / 2;
+            sourceY = (height - side) / 2;
+            sourceWidth = side;
+            sourceHeight = side;
+            targetWidth = Math.min(side, variant.size());
+            targetHeight = targetWidth;
+        } else {
+            // 원본보다 크게 늘리지는 않는다
+            double scale = Math.min(1.0, (double) variant.size() / Math.max(width, height));
+            targetWidth = Math.max(1, (int) Math.round(width * scale));
+            targetHeight = Math.max(1, (int) Math.round(height * scale));
+        }
+
+        // JPEG 에는 투명도가 없으므로 흰 배경 위에 그린다
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(original, 0, 0, targetWidth, targetHeight,
+                    sourceX, sourceY, sourceX + sourceWidth, sourceY + sourceHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private void upload(String storageKey, byte[] jpeg) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/jpeg");
+        metadata.setContentLength(jpeg.length);
+        metadata.setCacheControl(CACHE_CONTROL);
+        s3Client.putObject(bucketName, storageKey, new ByteArrayInputStream(jpeg), metadata);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
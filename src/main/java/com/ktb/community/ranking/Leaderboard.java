@@ -0,0 +1,225 @@
+package com.ktb.community.ranking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 서브트리 크기를 가진 treap (order-statistic tree), top-K 는 O(log n + K), 내 순위는 O(log n)
+// DB(user_score) 가 원본이고 여기는 LeaderboardRankingSource 가 채운 뒤 커밋된 투표만 반영한다
+public class Leaderboard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, LeaderboardEntry> entries = new HashMap<>();
+    private Node root;
+    private boolean loaded;
+
+    public void replaceAll(Collection<LeaderboardEntry> snapshot) {
+        Map<Long, LeaderboardEntry> newEntries = new HashMap<>();
+        Node newRoot = null;
+        for (LeaderboardEntry entry : snapshot) {
+            newEntries.put(entry.userId(), entry);
+            if (entry.isRanked()) {
+                newRoot = insert(newRoot, new Node(entry));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            entries.putAll(newEntries);
+            root = newRoot;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void recordVote(Long userId, boolean correct) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry before = entries.getOrDefault(userId, LeaderboardEntry.empty(userId));
+            LeaderboardEntry after = before.plusVote(correct);
+            if (before.isRanked()) {
+                root = delete(root, before);
+            }
+            if (after.isRanked()) {
+                root = insert(root, new Node(after));
+            }
+            entries.put(userId, after);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> result = new ArrayList<>(Math.min(limit, size(root)));
+            collect(root, limit, result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LeaderboardEntry> find(Long userId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entries.get(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 1부터 시작하는 순위, 순위에 없으면 0
+    public int rankOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(userId);
+            if (entry == null || !entry.isRanked()) {
+                return 0;
+            }
+            return countBefore(root, entry) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int rankedCount() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(Node node, int limit, List<LeaderboardEntry> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, result);
+        if (result.size() < limit) {
+            result.add(node.entry);
+            collect(node.right, limit, result);
+        }
+    }
+
+    private static int countBefore(Node node, LeaderboardEntry target) {
+        int count = 0;
+        while (node != null) {
+            int cmp = LeaderboardEntry.RANKING_ORDER.compare(target, node.entry);
+            if (cmp <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (LeaderboardEntry.RANKING_ORDER.compare(newNode.entry, node.entry) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, LeaderboardEntry target) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = LeaderboardEntry.RANKING_ORDER.compare(target, node.entry);
+        if (cmp < 0) {
+            node.left = delete(node.left, target);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, target);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final LeaderboardEntry entry;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(LeaderboardEntry entry) {
+            this.entry = entry;
+        }
+
+        private void update() {
+            size = 1 + Leaderboard.size(left) + Leaderboard.size(right);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ktb.community.ranking;
+
+import java.util.Comparator;
+
+// 랭킹 정렬 키: voteScore DESC, correctVotes DESC, userId ASC (UserScoreRepository.findTopRankings 와 동일)
+public record LeaderboardEntry(Long userId, int voteScore, long totalVotes, long correctVotes) {
+
+    public static final Comparator<LeaderboardEntry> RANKING_ORDER = Comparator
+            .comparingInt(LeaderboardEntry::voteScore).reversed()
+            .thenComparing(Comparator.comparingLong(LeaderboardEntry::correctVotes).reversed())
+            .thenComparing(LeaderboardEntry::userId);
+
+    public static LeaderboardEntry empty(Long userId) {
+        return new LeaderboardEntry(userId, 0, 0, 0);
+    }
+
+    public LeaderboardEntry plusVote(boolean correct) {
+        return correct
+                ? new LeaderboardEntry(userId, voteScore + 1, totalVotes + 1, correctVotes + 1)
+                : new LeaderboardEntry(userId, voteScore, totalVotes + 1, correctVotes);
+    }
+
+    // 점수가 있는 사용자만 순위에 든다
+    public boolean isRanked() {
+        return voteScore > 0;
+    }
+
+    public double accuracy() {
+        return totalVotes > 0 ? (double) correctVotes / totalVotes * 100 : 0.0;
+    }
+}
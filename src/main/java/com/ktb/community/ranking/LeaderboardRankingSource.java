@@ -0,0 +1,121 @@
+package com.ktb.community.ranking;
+
+import com.ktb.community.dto.vote.UserRankingResponse;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.LeaderboardRow;
+import com.ktb.community.service.UserSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+// 노드마다 메모리 Leaderboard 를 두는 방식 (단일 인스턴스 기본값)
+// 기동 시 user_score 전체로 채우고, 주기적으로 다시 읽어 누락/어긋난 반영을 바로잡는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ranking.source", havingValue = "memory", matchIfMissing = true)
+public class LeaderboardRankingSource implements RankingSource, ApplicationRunner {
+
+    private final UserScoreRepository userScoreRepository;
+    private final UserSnapshotService userSnapshotService;
+    private final Leaderboard leaderboard = new Leaderboard();
+
+    // 아래 상태는 모두 this 로 보호
+    // 사용자별로 현재 스냅샷에 이미 포함된 가장 큰 post_vote id, 이하의 투표는 다시 더하지 않는다
+    private Map<Long, Long> snapshotVoteIds = new HashMap<>();
+    // 재적재 중(스냅샷을 읽는 동안) 들어온 투표, 새 스냅샷을 올린 뒤 다시 반영한다
+    private List<RecordedVote> votesDuringReload;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${ranking.leaderboard.reload-interval-ms:600000}",
+            fixedDelayString = "${ranking.leaderboard.reload-interval-ms:600000}")
+    public void reload() {
+        synchronized (this) {
+            if (votesDuringReload != null) {
+                return;
+            }
+            votesDuringReload = new ArrayList<>();
+        }
+        List<LeaderboardRow> snapshot = null;
+        try {
+            // 조회는 락 밖에서, 그동안의 투표는 votesDuringReload 에 쌓인다
+            snapshot = userScoreRepository.findAllLeaderboardRows();
+        } finally {
+            synchronized (this) {
+                if (snapshot != null) {
+                    leaderboard.replaceAll(snapshot.stream().map(LeaderboardRow::toEntry).toList());
+                    snapshotVoteIds = new HashMap<>();
+                    snapshot.forEach(row -> snapshotVoteIds.put(row.userId(), row.lastVoteId()));
+                }
+                // 스냅샷에 이미 포함된 투표는 snapshotVoteIds 로 걸러진다, 조회가 실패했으면 기존 트리에 그대로 반영
+                votesDuringReload.forEach(this::apply);
+                votesDuringReload = null;
+            }
+        }
+        log.debug("Leaderboard reloaded with {} users ({} ranked)", snapshot.size(), leaderboard.rankedCount());
+    }
+
+    @Override
+    public synchronized void recordVote(Long voteId, Long userId, boolean correct) {
+        RecordedVote vote = new RecordedVote(voteId, userId, correct);
+        if (votesDuringReload != null) {
+            votesDuringReload.add(vote);
+            return;
+        }
+        apply(vote);
+    }
+
+    private void apply(RecordedVote vote) {
+        if (vote.voteId() <= snapshotVoteIds.getOrDefault(vote.userId(), 0L)) {
+            return;
+        }
+        leaderboard.recordVote(vote.userId(), vote.correct());
+    }
+
+    private record RecordedVote(Long voteId, Long userId, boolean correct) {
+    }
+
+    @Override
+    public Optional<UserRankingResponse.RankingListResponse> getTopRankings(int limit, Long currentUserId) {
+        if (!leaderboard.isLoaded()) {
+            return Optional.empty();
+        }
+        List<LeaderboardEntry> top = leaderboard.top(limit);
+        List<UserRankingResponse> rankings = IntStream.range(0, top.size())
+                .mapToObj(i -> UserRankingResponse.of(top.get(i), userSnapshotService.getSnapshot(top.get(i).userId()), i + 1))
+                .toList();
+
+        UserRankingResponse myRanking = null;
+        if (currentUserId != null) {
+            int myRank = leaderboard.rankOf(currentUserId);
+            if (myRank > 0) {
+                LeaderboardEntry myEntry = leaderboard.find(currentUserId).orElseThrow();
+                myRanking = UserRankingResponse.of(myEntry, userSnapshotService.getSnapshot(currentUserId), myRank);
+            }
+        }
+
+        return Optional.of(UserRankingResponse.RankingListResponse.builder()
+                .rankings(rankings)
+                .totalUsers(leaderboard.rankedCount())
+                .myRanking(myRanking)
+                .rankedAt(Instant.now())
+                .maxStalenessSeconds(0)
+                .build());
+    }
+}
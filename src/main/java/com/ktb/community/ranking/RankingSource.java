@@ -0,0 +1,16 @@
+package com.ktb.community.ranking;
+
+import com.ktb.community.dto.vote.UserRankingResponse;
+
+import java.util.Optional;
+
+// /api/rankings 의 순위 계산 방식, ranking.source 로 선택 (memory | snapshot)
+public interface RankingSource {
+
+    // 아직 준비되지 않았으면 empty, UserScoreService 가 user_score 를 직접 조회한다
+    Optional<UserRankingResponse.RankingListResponse> getTopRankings(int limit, Long currentUserId);
+
+    // 커밋된 투표 반영 (voteId 는 post_vote id), 스냅샷 방식은 다음 갱신 때 반영되므로 무시
+    default void recordVote(Long voteId, Long userId, boolean correct) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.ktb.community.ranking;
+
+import com.ktb.community.dto.vote.UserRankingResponse;
+import com.ktb.community.entity.UserRank;
+import com.ktb.community.repository.UserRankRepository;
+import com.ktb.community.service.UserSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// 여러 노드가 같은 순위를 보도록 user_rank 스냅샷을 읽는 방식
+// 순위 조회는 ranking 범위/PK 조회뿐이고, 대신 최대 interval 만큼 늦을 수 있다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ranking.source", havingValue = "snapshot")
+public class SnapshotRankingSource implements RankingSource, ApplicationRunner {
+
+    private static final String LOCK_NAME = "userRankMaterialize";
+
+    private final UserRankRepository userRankRepository;
+    private final UserSnapshotService userSnapshotService;
+    private final TransactionTemplate transactionTemplate;
+    private final LockingTaskExecutor lockingTaskExecutor;
+    private final long intervalMs;
+
+    public SnapshotRankingSource(UserRankRepository userRankRepository,
+                                 UserSnapshotService userSnapshotService,
+                                 PlatformTransactionManager transactionManager,
+                                 LockProvider lockProvider,
+                                 @Value("${ranking.snapshot.interval-ms:60000}") long intervalMs) {
+        this.userRankRepository = userRankRepository;
+        this.userSnapshotService = userSnapshotService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockingTaskExecutor = new DefaultLockingTaskExecutor(lockProvider);
+        this.intervalMs = intervalMs;
+    }
+
+    // 처음 배포해 user_rank 가 비어 있을 때만 바로 만들고, 이후로는 스케줄에 맡긴다
+    // 여러 노드가 동시에 떠도 스케줄 작업과 같은 lock 으로 한 곳에서만 만든다
+    @Override
+    public void run(ApplicationArguments args) {
+        if (userRankRepository.findFirstByOrderByRankingDesc().isPresent()) {
+            return;
+        }
+        lockingTaskExecutor.executeWithLock((Runnable) this::materialize,
+                new LockConfiguration(Instant.now(), LOCK_NAME, Duration.ofMinutes(5), Duration.ZERO));
+    }
+
+    // DELETE + INSERT 로 테이블 전체를 다시 쓰므로 여러 노드 중 한 곳에서만
+    @Scheduled(initialDelayString = "${ranking.snapshot.interval-ms:60000}",
+            fixedDelayString = "${ranking.snapshot.interval-ms:60000}")
+    @SchedulerLock(name = LOCK_NAME, lockAtMostFor = "PT5M", lockAtLeastFor = "PT10S")
+    public void materialize() {
+        Instant snapshotAt = Instant.now();
+        Integer ranked = transactionTemplate.execute(status -> userRankRepository.materialize(snapshotAt));
+        log.debug("user_rank materialized with {} users at {}", ranked, snapshotAt);
+    }
+
+    @Override
+    public Optional<UserRankingResponse.RankingListResponse> getTopRankings(int limit, Long currentUserId) {
+        Optional<UserRank> last = userRankRepository.findFirstByOrderByRankingDesc();
+        if (last.isEmpty()) {
+            return Optional.empty();
+        }
+        List<UserRankingResponse> rankings = userRankRepository.findByRankingLessThanEqualOrderByRankingAsc(limit).stream()
+                .map(rank -> UserRankingResponse.of(rank, userSnapshotService.getSnapshot(rank.getUserId())))
+                .toList();
+
+        UserRankingResponse myRanking = null;
+        if (currentUserId != null) {
+            myRanking = userRankRepository.findById(currentUserId)
+                    .map(rank -> UserRankingResponse.of(rank, userSnapshotService.getSnapshot(currentUserId)))
+                    .orElse(null);
+        }
+
+        return Optional.of(UserRankingResponse.RankingListResponse.builder()
+                .rankings(rankings)
+                .totalUsers((int) last.get().getRanking())
+                .myRanking(myRanking)
+                .rankedAt(last.get().getSnapshotAt())
+                .maxStalenessSeconds(intervalMs / 1000)
+                .build());
+    }
+}
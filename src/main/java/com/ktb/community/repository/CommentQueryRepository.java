@@ -1,10 +1,13 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.Comment;
+import com.ktb.community.support.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface CommentQueryRepository {
 
     Page<Comment> findPageByPostId(Long postId, Pageable pageable);
+
+    CursorPage<Comment> findAllByCursor(Long postId, Long cursorId, int size);
 }
@@ -3,6 +3,7 @@ package com.ktb.community.repository;
 import com.ktb.community.entity.QComment;
 import com.ktb.community.entity.QUser;
 import com.ktb.community.entity.Comment;
+import com.ktb.community.support.CursorPage;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,6 +19,7 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    // offset + COUNT(*) 로 게시글 댓글 수에 비례해 느려지는 예전 경로 (page/size 파라미터 호환용)
     @Override
     public Page<Comment> findPageByPostId(Long postId, Pageable pageable) {
         QComment comment = QComment.comment;
@@ -40,4 +42,30 @@ public class CommentQueryRepositoryImpl implements CommentQueryRepository {
 
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
+
+    // (post_id, deleted_at, id DESC) 인덱스를 따라 cursor 다음부터 size + 1 건만 읽는다
+    @Override
+    public CursorPage<Comment> findAllByCursor(Long postId, Long cursorId, int size) {
+        QComment comment = QComment.comment;
+        QUser user = QUser.user;
+
+        List<Comment> results = queryFactory
+                .selectFrom(comment)
+                .join(comment.user, user).fetchJoin()
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.deletedAt.isNull(),
+                        cursorId != null ? comment.id.lt(cursorId) : null
+                )
+                .orderBy(comment.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = results.size() > size;
+        if (hasNext) {
+            results.remove(size);
+        }
+        Long nextCursor = hasNext ? results.get(results.size() - 1).getId() : null;
+        return new CursorPage<>(results, nextCursor, hasNext);
+    }
 }
@@ -0,0 +1,8 @@
+package com.ktb.community.repository;
+
+public interface FeedItemRebuildRepository {
+
+    Long findMaxPostId();
+
+    int rebuildRange(long fromPostIdExclusive, long toPostIdInclusive);
+}
@@ -0,0 +1,35 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.FeedItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FeedItemRebuildRepositoryImpl implements FeedItemRebuildRepository {
+
+    private static final String INSERT_FROM_POSTS = """
+            INSERT INTO feed_item (id, title, content_preview, content_length, author_id, author_nickname, custom_author_name,
+                                   view_count, like_count, reply_count, created_at, updated_at)
+            SELECT p.id, p.title, SUBSTRING(p.content, 1, %d), COALESCE(CHAR_LENGTH(p.content), 0), u.id, u.nickname, p.custom_author_name,
+                   s.view_count, s.like_count, s.reply_count, p.created_at, p.updated_at
+            FROM post p
+            JOIN user u ON u.id = p.user_id
+            JOIN post_stats s ON s.post_id = p.id
+            WHERE p.deleted_at IS NULL AND p.id > ? AND p.id <= ?
+            """.formatted(FeedItem.PREVIEW_LENGTH);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Long findMaxPostId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+    }
+
+    @Override
+    public int rebuildRange(long fromPostIdExclusive, long toPostIdInclusive) {
+        jdbcTemplate.update("DELETE FROM feed_item WHERE id > ? AND id <= ?", fromPostIdExclusive, toPostIdInclusive);
+        return jdbcTemplate.update(INSERT_FROM_POSTS, fromPostIdExclusive, toPostIdInclusive);
+    }
+}
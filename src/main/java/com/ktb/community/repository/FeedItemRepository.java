@@ -0,0 +1,24 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.FeedItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FeedItemRepository extends JpaRepository<FeedItem, Long>, FeedItemRebuildRepository {
+
+    @Modifying
+    @Query("UPDATE FeedItem f SET f.likeCount = :likeCount WHERE f.id = :postId")
+    int updateLikeCount(@Param("postId") Long postId, @Param("likeCount") long likeCount);
+
+    @Modifying
+    @Query("UPDATE FeedItem f SET f.replyCount = :replyCount WHERE f.id = :postId")
+    int updateReplyCount(@Param("postId") Long postId, @Param("replyCount") long replyCount);
+
+    @Modifying
+    @Query("UPDATE FeedItem f SET f.authorNickname = :nickname WHERE f.authorId = :authorId")
+    int updateAuthorNickname(@Param("authorId") Long authorId, @Param("nickname") String nickname);
+}
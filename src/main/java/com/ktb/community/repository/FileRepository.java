@@ -1,20 +1,65 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.File;
+import com.ktb.community.repository.projection.OrphanFile;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface FileRepository extends JpaRepository<File, Long> {
 
     Optional<File> findByIdAndDeletedAtIsNull(Long id);
 
-    List<File> findByIdIn(Collection<Long> ids);
+    // 게시글/프로필에 붙일 파일을 잠가 읽는다, FileCleaner 의 claim 과 겹치면 한쪽이 기다리고 나중 쪽은 바뀐 상태를 본다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM File f WHERE f.id IN :ids AND f.deletedAt IS NULL")
+    List<File> findLiveByIdInForUpdate(@Param("ids") Collection<Long> ids);
 
-    List<File> findByCommittedFalseAndDeletedAtIsNullAndCreatedAtBefore(Instant expiration);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM File f WHERE f.id = :id AND f.deletedAt IS NULL")
+    Optional<File> findLiveByIdForUpdate(@Param("id") Long id);
+
+    // FileCleaner 가 지우기 전에 아직 미사용인 row 만 잠가 가져간다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM File f WHERE f.id IN :ids AND f.committed = false AND f.deletedAt IS NULL")
+    List<File> findOrphansForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 중복 업로드 판단: 게시글/프로필에 이미 붙어 정리 대상이 될 수 없는 파일만 공유한다
+    Optional<File> findFirstByContentHashAndCommittedTrueAndDeletedAtIsNullOrderByIdAsc(String contentHash);
+
+    // excludedIds 말고도 아직 이 key 를 가리키는 row 가 있으면 S3 객체를 지우면 안 된다
+    @Query("SELECT DISTINCT f.storageKey FROM File f " +
+            "WHERE f.storageKey IN :storageKeys AND f.deletedAt IS NULL AND f.id NOT IN :excludedIds")
+    Set<String> findReferencedStorageKeys(@Param("storageKeys") Collection<String> storageKeys,
+                                          @Param("excludedIds") Collection<Long> excludedIds);
+
+    // 게시글에 붙지 않은 채 만료된 파일을 id 순 keyset 으로 pageable 크기만큼씩
+    @Query("SELECT new com.ktb.community.repository.projection.OrphanFile(f.id, f.storageKey) FROM File f " +
+            "WHERE f.committed = false AND f.deletedAt IS NULL AND f.createdAt < :expiration AND f.id > :afterId ORDER BY f.id")
+    List<OrphanFile> findOrphans(@Param("expiration") Instant expiration, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE File f SET f.thumbnailUrl = :thumbnailUrl, f.avatarUrl = :avatarUrl WHERE f.id = :id")
+    int updateVariantUrls(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl, @Param("avatarUrl") String avatarUrl);
+
+    @Modifying
+    @Query("UPDATE File f SET f.deletedAt = :now WHERE f.id IN :ids AND f.committed = false AND f.deletedAt IS NULL")
+    int markDeleted(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    // S3 에서 지우지 못한 파일을 다음 정리 때 다시 시도하도록 되돌린다 (삭제된 row 는 누구도 붙일 수 없었다)
+    @Modifying
+    @Query("UPDATE File f SET f.deletedAt = NULL WHERE f.id IN :ids AND f.committed = false")
+    int restoreDeleted(@Param("ids") Collection<Long> ids);
 }
@@ -2,16 +2,18 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
-
-    boolean existsByPostIdAndUserId(Long postId, Long userId);
-
-    Optional<PostLike> findByPostIdAndUserId(Long postId, Long userId);
+public interface PostLikeRepository extends JpaRepository<PostLike, Long>, PostLikeWriteRepository {
 
     long countByPostId(Long postId);
+
+    // uk_likes_user_post (user_id, post_id) 인덱스만 읽는다
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
 }
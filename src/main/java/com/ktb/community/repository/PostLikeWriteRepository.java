@@ -0,0 +1,10 @@
+package com.ktb.community.repository;
+
+public interface PostLikeWriteRepository {
+
+    // 새로 추가되면 1, 이미 있으면 0
+    int insertIfAbsent(Long userId, Long postId);
+
+    // 지워졌으면 1, 없었으면 0
+    int deleteIfPresent(Long userId, Long postId);
+}
@@ -0,0 +1,28 @@
+package com.ktb.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+// 좋아요 추가/취소는 조회 없이 한 문장으로, 영향받은 row 수가 카운터 증감을 결정
+// 동시에 두 번 눌러도 uk_likes_user_post 때문에 한 요청만 1 을 받는다
+@Repository
+@RequiredArgsConstructor
+public class PostLikeWriteRepositoryImpl implements PostLikeWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertIfAbsent(Long userId, Long postId) {
+        return jdbcTemplate.update("INSERT IGNORE INTO likes (user_id, post_id, created_at) VALUES (?, ?, ?)",
+                userId, postId, Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    public int deleteIfPresent(Long userId, Long postId) {
+        return jdbcTemplate.update("DELETE FROM likes WHERE user_id = ? AND post_id = ?", userId, postId);
+    }
+}
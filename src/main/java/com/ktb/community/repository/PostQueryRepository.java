@@ -2,9 +2,10 @@ package com.ktb.community.repository;
 
 import com.ktb.community.repository.projection.PostSummaryProjection;
 import com.ktb.community.support.CursorPage;
+import com.ktb.community.support.PostCursor;
 import com.ktb.community.support.PostSortType;
 
 public interface PostQueryRepository {
 
-    CursorPage<PostSummaryProjection> findAllByCursor(Long cursorId, int size, PostSortType sortType);
+    CursorPage<PostSummaryProjection> findAllByCursor(PostCursor cursor, int size, PostSortType sortType);
 }
@@ -1,17 +1,18 @@
 package com.ktb.community.repository;
 
-import com.ktb.community.entity.QPost;
-import com.ktb.community.entity.QPostStats;
-import com.ktb.community.entity.QUser;
+import com.ktb.community.entity.FeedItem;
+import com.ktb.community.entity.QFeedItem;
 import com.ktb.community.repository.projection.PostSummaryProjection;
 import com.ktb.community.support.CursorPage;
+import com.ktb.community.support.PostCursor;
 import com.ktb.community.support.PostSortType;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -23,114 +24,122 @@ public class PostQueryRepositoryImpl implements PostQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    @Value("${feed.preview-length:200}")
+    private int previewLength;
+
     @Override
-    public CursorPage<PostSummaryProjection> findAllByCursor(Long cursorId, int size, PostSortType sortType) {
-        QPost post = QPost.post;
-        QUser user = QUser.user;
-        QPostStats postStats = QPostStats.postStats;
-        NumberExpression<Long> likeCountExpr = postStats.likeCount.coalesce(0L);
-        NumberExpression<Long> replyCountExpr = postStats.replyCount.coalesce(0L);
-        NumberExpression<Long> viewCountExpr = postStats.viewCount.coalesce(0L);
+    public CursorPage<PostSummaryProjection> findAllByCursor(PostCursor cursor, int size, PostSortType sortType) {
+        QFeedItem feedItem = QFeedItem.feedItem;
 
+        // 목록은 feed_item 한 테이블만 읽는다 (삭제된 게시글은 feed_item 에 없음)
+        // 본문은 DB 에서 previewLength 만큼만 잘라 가져온다
         List<PostSummaryProjection> results = queryFactory
                 .select(Projections.constructor(
                         PostSummaryProjection.class,
-                        post.id,
-                        post.title,
-                        post.content,
-                        user.id,
-                        user.nickname,
-                        post.customAuthorName,
-                        post.createdAt,
-                        post.updatedAt,
-                        postStats.viewCount.coalesce(0L),
-                        postStats.likeCount.coalesce(0L),
-                        postStats.replyCount.coalesce(0L)
+                        feedItem.id,
+                        feedItem.title,
+                        feedItem.contentPreview.substring(0, previewLength()),
+                        feedItem.contentLength,
+                        feedItem.authorId,
+                        feedItem.authorNickname,
+                        feedItem.customAuthorName,
+                        feedItem.createdAt,
+                        feedItem.updatedAt,
+                        feedItem.viewCount,
+                        feedItem.likeCount,
+                        feedItem.replyCount
                 ))
-                .from(post)
-                .join(post.user, user)
-                .leftJoin(postStats).on(postStats.post.eq(post))
-                .where(
-                        post.deletedAt.isNull(),
-                        cursorPredicate(cursorId, sortType, post, likeCountExpr, replyCountExpr, viewCountExpr)
-                )
-                .orderBy(orderSpecifiers(sortType, post, likeCountExpr, replyCountExpr, viewCountExpr))
+                .from(feedItem)
+                .where(cursorPredicate(cursor, sortType, feedItem))
+                .orderBy(orderSpecifiers(sortType, feedItem))
                 .limit(size + 1L)
                 .fetch();
 
         boolean hasNext = results.size() > size;
-        Long nextCursor = null;
+        PostSummaryProjection last = null;
         if (hasNext) {
-            PostSummaryProjection last = results.remove(size);
-            nextCursor = last.id();
+            last = results.remove(size);
         } else if (!results.isEmpty()) {
-            nextCursor = results.get(results.size() - 1).id();
+            last = results.get(results.size() - 1);
+        }
+        if (last == null) {
+            return new CursorPage<>(results, null, hasNext);
         }
+        return new CursorPage<>(results, last.id(), nextCursor(last, sortType).encode(), hasNext);
+    }
 
-        return new CursorPage<>(results, nextCursor, hasNext);
+    private int previewLength() {
+        return Math.clamp(previewLength, 1, FeedItem.PREVIEW_LENGTH);
     }
 
-    private BooleanExpression cursorPredicate(Long cursorId,
+    private BooleanExpression cursorPredicate(PostCursor cursor,
                                               PostSortType sortType,
-                                              QPost post,
-                                              NumberExpression<Long> likeCountExpr,
-                                              NumberExpression<Long> replyCountExpr,
-                                              NumberExpression<Long> viewCountExpr) {
-        if (cursorId == null) {
+                                              QFeedItem feedItem) {
+        if (cursor == null) {
             return null;
         }
         return switch (sortType) {
-            case LATEST -> post.id.lt(cursorId);
-            case LIKES -> rankingPredicate(cursorId, post, likeCountExpr, SortCursorInfo::likeCount);
-            case COMMENTS -> rankingPredicate(cursorId, post, replyCountExpr, SortCursorInfo::replyCount);
-            case VIEWS ->  rankingPredicate(cursorId, post, viewCountExpr, SortCursorInfo::viewCount);
+            case LATEST -> feedItem.id.lt(cursor.postId());
+            case LIKES -> rankingPredicate(cursor, feedItem, feedItem.likeCount, SortCursorInfo::likeCount);
+            case COMMENTS -> rankingPredicate(cursor, feedItem, feedItem.replyCount, SortCursorInfo::replyCount);
+            case VIEWS ->  rankingPredicate(cursor, feedItem, feedItem.viewCount, SortCursorInfo::viewCount);
         };
     }
 
-    private BooleanExpression rankingPredicate(Long cursorId,
-                                               QPost post,
-                                               NumberExpression<Long> sortExpr,
+    private BooleanExpression rankingPredicate(PostCursor cursor,
+                                               QFeedItem feedItem,
+                                               NumberPath<Long> sortExpr,
                                                Function<SortCursorInfo, Long> cursorValueExtractor) {
-        SortCursorInfo cursorInfo = loadCursorInfo(cursorId);
+        if (cursor.hasSortValue()) {
+            return sortExpr.lt(cursor.sortValue())
+                    .or(sortExpr.eq(cursor.sortValue()).and(feedItem.id.lt(cursor.postId())));
+        }
+        // 숫자 cursorId 만 보내는 예전 클라이언트는 cursor 게시글의 정렬 값을 한 번 더 조회
+        SortCursorInfo cursorInfo = loadCursorInfo(cursor.postId());
         if (cursorInfo == null) {
-            return post.id.lt(cursorId);
+            return feedItem.id.lt(cursor.postId());
         }
         Long value = cursorValueExtractor.apply(cursorInfo);
         long cursorValue = value == null ? 0L : value;
         return sortExpr.lt(cursorValue)
-                .or(sortExpr.eq(cursorValue).and(post.id.lt(cursorInfo.postId())));
+                .or(sortExpr.eq(cursorValue).and(feedItem.id.lt(cursorInfo.postId())));
     }
 
-    private OrderSpecifier<?>[] orderSpecifiers(PostSortType sortType,
-                                                QPost post,
-                                                NumberExpression<Long> likeCountExpr,
-                                                NumberExpression<Long> replyCountExpr,
-                                                NumberExpression<Long> viewCountExpr) {
+    private OrderSpecifier<?>[] orderSpecifiers(PostSortType sortType, QFeedItem feedItem) {
         return switch (sortType) {
-            case LATEST -> new OrderSpecifier[]{post.id.desc()};
-            case LIKES -> new OrderSpecifier[]{likeCountExpr.desc(), post.id.desc()};
-            case COMMENTS -> new OrderSpecifier[]{replyCountExpr.desc(), post.id.desc()};
-            case VIEWS ->  new OrderSpecifier[]{viewCountExpr.desc() ,post.id.desc()};
+            case LATEST -> new OrderSpecifier[]{feedItem.id.desc()};
+            case LIKES -> new OrderSpecifier[]{feedItem.likeCount.desc(), feedItem.id.desc()};
+            case COMMENTS -> new OrderSpecifier[]{feedItem.replyCount.desc(), feedItem.id.desc()};
+            case VIEWS ->  new OrderSpecifier[]{feedItem.viewCount.desc(), feedItem.id.desc()};
+        };
+    }
+
+    private PostCursor nextCursor(PostSummaryProjection last, PostSortType sortType) {
+        long sortValue = switch (sortType) {
+            case LATEST -> last.id();
+            case LIKES -> last.likeCount();
+            case COMMENTS -> last.replyCount();
+            case VIEWS -> last.viewCount();
         };
+        return PostCursor.of(sortType, sortValue, last.id());
     }
 
     private SortCursorInfo loadCursorInfo(Long cursorId) {
         if (cursorId == null) {
             return null;
         }
-        QPost cursorPost = new QPost("cursorPost");
+        QFeedItem cursorItem = new QFeedItem("cursorItem");
 
         return queryFactory
                 .select(Projections.constructor(
                         SortCursorInfo.class,
-                        cursorPost.id,
-                        cursorPost.stats.likeCount.coalesce(0L),
-                        cursorPost.stats.replyCount.coalesce(0L),
-                        cursorPost.stats.viewCount.coalesce(0L)
+                        cursorItem.id,
+                        cursorItem.likeCount,
+                        cursorItem.replyCount,
+                        cursorItem.viewCount
                 ))
-                .from(cursorPost)
-                .leftJoin(cursorPost.stats)
-                .where(cursorPost.id.eq(cursorId))
+                .from(cursorItem)
+                .where(cursorItem.id.eq(cursorId))
                 .fetchOne();
     }
 
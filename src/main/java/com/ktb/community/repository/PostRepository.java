@@ -1,13 +1,17 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.Post;
+import com.ktb.community.repository.projection.VoteDeadline;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,26 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepo
     @EntityGraph(attributePaths = {"user", "attachments", "attachments.file", "stats"})
     Optional<Post> findWithFilesByIdAndDeletedAtIsNull(Long id);
 
-    @Query("SELECT p FROM Post p WHERE p.voteDeadlineAt < :now AND p.answerRevealedAt IS NULL AND p.deletedAt IS NULL")
-    List<Post> findByVoteDeadlineAtBeforeAndAnswerRevealedAtIsNull(@Param("now") Instant now);
+    // 마감이 지났는데 아직 공개되지 않은 게시글 id (pageable 크기만큼씩)
+    @Query("SELECT p.id FROM Post p WHERE p.voteDeadlineAt < :now AND p.answerRevealedAt IS NULL AND p.deletedAt IS NULL ORDER BY p.voteDeadlineAt")
+    List<Long> findByVoteDeadlineAtBeforeAndAnswerRevealedAtIsNull(@Param("now") Instant now, Pageable pageable);
+
+    @Query("SELECT new com.ktb.community.repository.projection.VoteDeadline(p.id, p.voteDeadlineAt) FROM Post p " +
+            "WHERE p.voteDeadlineAt >= :from AND p.voteDeadlineAt < :to AND p.answerRevealedAt IS NULL AND p.deletedAt IS NULL")
+    List<VoteDeadline> findUpcomingVoteDeadlines(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.answerRevealedAt = :now WHERE p.id IN :ids " +
+            "AND p.voteDeadlineAt <= :now AND p.answerRevealedAt IS NULL AND p.deletedAt IS NULL")
+    int revealAnswers(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Query("SELECT p.id FROM Post p WHERE p.user.id = :userId AND p.deletedAt IS NULL")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT pf.post.id FROM PostFile pf WHERE pf.file.id = :fileId")
+    List<Long> findIdsByAttachedFileId(@Param("fileId") Long fileId);
+
+    // 상세 스냅샷의 작성자 프로필 이미지가 이 파일인 게시글
+    @Query("SELECT p.id FROM Post p WHERE p.user.profileImage.id = :fileId AND p.deletedAt IS NULL")
+    List<Long> findIdsByAuthorProfileImageId(@Param("fileId") Long fileId);
 }
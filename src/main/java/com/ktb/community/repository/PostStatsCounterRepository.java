@@ -0,0 +1,36 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.repository.projection.PostCounters;
+import com.ktb.community.repository.projection.PostVoteCounts;
+
+import java.time.Instant;
+import java.util.Map;
+
+public interface PostStatsCounterRepository {
+
+    void addViewCounts(Map<Long, Long> deltas);
+
+    int incrementLikeCount(Long postId);
+
+    int decrementLikeCount(Long postId);
+
+    int incrementReplyCount(Long postId);
+
+    int decrementReplyCount(Long postId);
+
+    int incrementAiVoteCount(Long postId);
+
+    int incrementHumanVoteCount(Long postId);
+
+    void addVoteCounts(Map<Long, PostVoteCounts> deltas);
+
+    int reconcileVoteCounts(Instant votedSince, long throughVoteId);
+
+    long findLikeCount(Long postId);
+
+    long findReplyCount(Long postId);
+
+    PostVoteCounts findVoteCounts(Long postId);
+
+    PostCounters findCounters(Long postId);
+}
@@ -0,0 +1,136 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.repository.projection.PostCounters;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+// post_stats 카운터는 엔티티를 거치지 않고 단일 UPDATE 문으로 원자적으로 증감
+@Repository
+@RequiredArgsConstructor
+public class PostStatsCounterRepositoryImpl implements PostStatsCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE post_stats SET view_count = view_count + ? WHERE post_id = ?", args);
+        // 목록 읽기 모델도 같은 배치로 반영
+        jdbcTemplate.batchUpdate("UPDATE feed_item SET view_count = view_count + ? WHERE id = ?", args);
+    }
+
+    @Override
+    public int incrementLikeCount(Long postId) {
+        return jdbcTemplate.update("UPDATE post_stats SET like_count = like_count + 1 WHERE post_id = ?", postId);
+    }
+
+    @Override
+    public int decrementLikeCount(Long postId) {
+        return jdbcTemplate.update("UPDATE post_stats SET like_count = GREATEST(like_count - 1, 0) WHERE post_id = ?", postId);
+    }
+
+    @Override
+    public int incrementReplyCount(Long postId) {
+        return jdbcTemplate.update("UPDATE post_stats SET reply_count = reply_count + 1 WHERE post_id = ?", postId);
+    }
+
+    @Override
+    public int decrementReplyCount(Long postId) {
+        return jdbcTemplate.update("UPDATE post_stats SET reply_count = GREATEST(reply_count - 1, 0) WHERE post_id = ?", postId);
+    }
+
+    @Override
+    public int incrementAiVoteCount(Long postId) {
+        return jdbcTemplate.update("UPDATE post_stats SET ai_vote_count = ai_vote_count + 1, total_vote_count = total_vote_count + 1 WHERE post_id = ?", postId);
+    }
+
+    @Override
+    public int incrementHumanVoteCount(Long postId) {
+        return jdbcTemplate.update("UPDATE post_stats SET human_vote_count = human_vote_count + 1, total_vote_count = total_vote_count + 1 WHERE post_id = ?", postId);
+    }
+
+    // 통계 row 가 없는 예전 게시글도 한 문장으로 처리 (MySQL upsert, H2 는 MySQL 모드에서 지원)
+    @Override
+    public void addVoteCounts(Map<Long, PostVoteCounts> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue().aiVoteCount(),
+                        entry.getValue().humanVoteCount(), entry.getValue().totalVoteCount()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+                VALUES (?, 0, 0, 0, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE ai_vote_count = ai_vote_count + VALUES(ai_vote_count),
+                                        human_vote_count = human_vote_count + VALUES(human_vote_count),
+                                        total_vote_count = total_vote_count + VALUES(total_vote_count)""",
+                args);
+    }
+
+    // votedSince 이후 투표가 있었던 게시글의 투표 수를 post_vote 로부터 다시 계산
+    // throughVoteId 이하만 세어, VoteTallyBuffer 가 건너뛰는 투표(id <= watermark)와 정확히 같은 범위가 되게 한다
+    @Override
+    public int reconcileVoteCounts(Instant votedSince, long throughVoteId) {
+        Timestamp since = Timestamp.from(votedSince);
+        jdbcTemplate.update("""
+                INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+                SELECT DISTINCT v.post_id, 0, 0, 0, 0, 0, 0
+                FROM post_vote v
+                WHERE v.created_at >= ? AND v.id <= ?
+                  AND NOT EXISTS (SELECT 1 FROM post_stats s WHERE s.post_id = v.post_id)""", since, throughVoteId);
+        return jdbcTemplate.update("""
+                UPDATE post_stats s SET
+                    ai_vote_count = (SELECT COUNT(*) FROM post_vote v WHERE v.post_id = s.post_id AND v.id <= ? AND v.vote_type = 'AI'),
+                    human_vote_count = (SELECT COUNT(*) FROM post_vote v WHERE v.post_id = s.post_id AND v.id <= ? AND v.vote_type = 'HUMAN'),
+                    total_vote_count = (SELECT COUNT(*) FROM post_vote v WHERE v.post_id = s.post_id AND v.id <= ?)
+                WHERE s.post_id IN (SELECT v.post_id FROM post_vote v WHERE v.created_at >= ? AND v.id <= ?)""",
+                throughVoteId, throughVoteId, throughVoteId, since, throughVoteId);
+    }
+
+    @Override
+    public long findLikeCount(Long postId) {
+        List<Long> counts = jdbcTemplate.queryForList("SELECT like_count FROM post_stats WHERE post_id = ?", Long.class, postId);
+        return counts.isEmpty() ? 0L : counts.getFirst();
+    }
+
+    @Override
+    public long findReplyCount(Long postId) {
+        List<Long> counts = jdbcTemplate.queryForList("SELECT reply_count FROM post_stats WHERE post_id = ?", Long.class, postId);
+        return counts.isEmpty() ? 0L : counts.getFirst();
+    }
+
+    @Override
+    public PostVoteCounts findVoteCounts(Long postId) {
+        List<PostVoteCounts> counts = jdbcTemplate.query(
+                "SELECT ai_vote_count, human_vote_count, total_vote_count FROM post_stats WHERE post_id = ?",
+                (rs, rowNum) -> new PostVoteCounts(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                postId);
+        return counts.isEmpty() ? new PostVoteCounts(0L, 0L, 0L) : counts.getFirst();
+    }
+
+    @Override
+    public PostCounters findCounters(Long postId) {
+        List<PostCounters> counters = jdbcTemplate.query("""
+                        SELECT view_count, like_count, reply_count, ai_vote_count, human_vote_count, total_vote_count
+                        FROM post_stats WHERE post_id = ?""",
+                (rs, rowNum) -> new PostCounters(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6)),
+                postId);
+        return counters.isEmpty() ? PostCounters.empty() : counters.getFirst();
+    }
+}
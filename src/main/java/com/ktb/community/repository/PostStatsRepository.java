@@ -1,13 +1,22 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.PostStats;
+import com.ktb.community.repository.projection.PostLikeCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+public interface PostStatsRepository extends JpaRepository<PostStats, Long>, PostStatsCounterRepository {
 
     Optional<PostStats> findByPostId(Long postId);
+
+    @Query("SELECT new com.ktb.community.repository.projection.PostLikeCount(s.postId, s.likeCount) " +
+            "FROM PostStats s WHERE s.postId IN :postIds")
+    List<PostLikeCount> findLikeCounts(@Param("postIds") Collection<Long> postIds);
 }
@@ -7,7 +7,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface PostVoteRepository extends JpaRepository<PostVote, Long> {
+public interface PostVoteRepository extends JpaRepository<PostVote, Long>, VoteTallyWatermarkRepository {
 
     @Query("SELECT COUNT(v) > 0 FROM PostVote v WHERE v.post.id = :postId AND v.user.id = :userId")
     boolean existsByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
@@ -20,4 +20,7 @@ public interface PostVoteRepository extends JpaRepository<PostVote, Long> {
 
     @Query("SELECT COUNT(v) FROM PostVote v WHERE v.user.id = :userId")
     long countTotalVotesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT MAX(v.id) FROM PostVote v")
+    Long findMaxId();
 }
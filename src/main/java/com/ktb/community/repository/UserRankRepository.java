@@ -0,0 +1,16 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.UserRank;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRankRepository extends JpaRepository<UserRank, Long>, UserRankSnapshotRepository {
+
+    // 순위는 1..n 으로 연속이라 top-K 는 ranking <= K 범위 조회
+    List<UserRank> findByRankingLessThanEqualOrderByRankingAsc(long ranking);
+
+    // 마지막 순위 행 하나로 전체 인원과 스냅샷 시각을 함께 얻는다
+    Optional<UserRank> findFirstByOrderByRankingDesc();
+}
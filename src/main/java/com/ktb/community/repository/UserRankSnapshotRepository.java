@@ -0,0 +1,8 @@
+package com.ktb.community.repository;
+
+import java.time.Instant;
+
+public interface UserRankSnapshotRepository {
+
+    int materialize(Instant snapshotAt);
+}
@@ -0,0 +1,32 @@
+package com.ktb.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRankSnapshotRepositoryImpl implements UserRankSnapshotRepository {
+
+    // 정렬 한 번으로 순위를 매긴다 (findTopRankings 와 같은 순서)
+    private static final String INSERT_RANKS = """
+            INSERT INTO user_rank (user_id, ranking, vote_score, total_votes, correct_votes, snapshot_at)
+            SELECT us.user_id,
+                   ROW_NUMBER() OVER (ORDER BY us.vote_score DESC, us.correct_votes DESC, us.user_id ASC),
+                   us.vote_score, us.total_votes, us.correct_votes, ?
+            FROM user_score us
+            WHERE us.vote_score > 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출하는 쪽 트랜잭션 안에서 실행, 커밋 전까지 다른 세션은 이전 스냅샷을 읽는다
+    @Override
+    public int materialize(Instant snapshotAt) {
+        jdbcTemplate.update("DELETE FROM user_rank");
+        return jdbcTemplate.update(INSERT_RANKS, Timestamp.from(snapshotAt));
+    }
+}
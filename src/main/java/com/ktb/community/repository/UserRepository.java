@@ -2,8 +2,11 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +19,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    @Query("SELECT u.id FROM User u WHERE u.profileImage.id = :fileId")
+    List<Long> findIdsByProfileImageId(@Param("fileId") Long fileId);
 }
@@ -0,0 +1,15 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.repository.projection.VoteScoreDelta;
+
+import java.time.Instant;
+import java.util.Map;
+
+public interface UserScoreCounterRepository {
+
+    void addVoteScores(Map<Long, VoteScoreDelta> deltas);
+
+    int reconcileScores(Instant votedSince, long throughVoteId);
+
+    int findVoteScore(Long userId);
+}
@@ -0,0 +1,69 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.repository.projection.VoteScoreDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+// user_score 는 조회 후 수정 대신 upsert 한 문장으로 누적 (row 가 없으면 생성)
+@Repository
+@RequiredArgsConstructor
+public class UserScoreCounterRepositoryImpl implements UserScoreCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addVoteScores(Map<Long, VoteScoreDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue().correctVotes(),
+                        entry.getValue().totalVotes(), entry.getValue().correctVotes(), entry.getValue().lastVoteId(), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_score (user_id, vote_score, total_votes, correct_votes, last_vote_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE vote_score = vote_score + VALUES(vote_score),
+                                        total_votes = total_votes + VALUES(total_votes),
+                                        correct_votes = correct_votes + VALUES(correct_votes),
+                                        last_vote_id = GREATEST(last_vote_id, VALUES(last_vote_id)),
+                                        updated_at = VALUES(updated_at)""",
+                args);
+    }
+
+    // votedSince 이후 투표한 사용자의 점수를 post_vote 로부터 다시 계산 (vote_score 는 맞힌 투표 수)
+    // throughVoteId 이하만 세어 VoteTallyBuffer 가 건너뛰는 투표와 같은 범위로 맞춘다
+    @Override
+    public int reconcileScores(Instant votedSince, long throughVoteId) {
+        Timestamp since = Timestamp.from(votedSince);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO user_score (user_id, vote_score, total_votes, correct_votes, created_at, updated_at)
+                SELECT DISTINCT v.user_id, 0, 0, 0, ?, ?
+                FROM post_vote v
+                WHERE v.created_at >= ? AND v.id <= ?
+                  AND NOT EXISTS (SELECT 1 FROM user_score us WHERE us.user_id = v.user_id)""", now, now, since, throughVoteId);
+        return jdbcTemplate.update("""
+                UPDATE user_score us SET
+                    vote_score = (SELECT COUNT(*) FROM post_vote v WHERE v.user_id = us.user_id AND v.id <= ? AND v.is_correct = TRUE),
+                    correct_votes = (SELECT COUNT(*) FROM post_vote v WHERE v.user_id = us.user_id AND v.id <= ? AND v.is_correct = TRUE),
+                    total_votes = (SELECT COUNT(*) FROM post_vote v WHERE v.user_id = us.user_id AND v.id <= ?),
+                    last_vote_id = COALESCE((SELECT MAX(v.id) FROM post_vote v WHERE v.user_id = us.user_id AND v.id <= ?), 0),
+                    updated_at = ?
+                WHERE us.user_id IN (SELECT v.user_id FROM post_vote v WHERE v.created_at >= ? AND v.id <= ?)""",
+                throughVoteId, throughVoteId, throughVoteId, throughVoteId, now, since, throughVoteId);
+    }
+
+    @Override
+    public int findVoteScore(Long userId) {
+        List<Integer> scores = jdbcTemplate.queryForList("SELECT vote_score FROM user_score WHERE user_id = ?", Integer.class, userId);
+        return scores.isEmpty() ? 0 : scores.getFirst();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.community.repository;
 
 import com.ktb.community.entity.UserScore;
+import com.ktb.community.repository.projection.LeaderboardRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +10,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserScoreRepository extends JpaRepository<UserScore, Long> {
+public interface UserScoreRepository extends JpaRepository<UserScore, Long>, UserScoreCounterRepository {
 
     Optional<UserScore> findByUserId(Long userId);
 
@@ -21,4 +22,7 @@ public interface UserScoreRepository extends JpaRepository<UserScore, Long> {
 
     @Query("SELECT COUNT(us) FROM UserScore us WHERE us.voteScore > 0")
     long countActiveUsers();
+
+    @Query("SELECT new com.ktb.community.repository.projection.LeaderboardRow(us.userId, us.voteScore, us.totalVotes, us.correctVotes, us.lastVoteId) FROM UserScore us")
+    List<LeaderboardRow> findAllLeaderboardRows();
 }
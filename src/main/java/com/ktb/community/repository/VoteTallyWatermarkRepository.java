@@ -0,0 +1,13 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.repository.projection.VoteTallyWatermark;
+
+import java.time.Instant;
+
+public interface VoteTallyWatermarkRepository {
+
+    // 트랜잭션이 끝날 때까지 row 를 잠근 채 읽는다
+    VoteTallyWatermark lockWatermark();
+
+    void advanceWatermark(long reconciledThroughVoteId, Instant reconciledAt);
+}
@@ -0,0 +1,32 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.repository.projection.VoteTallyWatermark;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+// vote_tally_watermark 는 id = 1 인 row 하나뿐
+@Repository
+@RequiredArgsConstructor
+public class VoteTallyWatermarkRepositoryImpl implements VoteTallyWatermarkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public VoteTallyWatermark lockWatermark() {
+        return jdbcTemplate.queryForObject(
+                "SELECT reconciled_through_vote_id, reconciled_at FROM vote_tally_watermark WHERE id = 1 FOR UPDATE",
+                (rs, rowNum) -> new VoteTallyWatermark(rs.getLong(1), rs.getTimestamp(2).toInstant()));
+    }
+
+    @Override
+    public void advanceWatermark(long reconciledThroughVoteId, Instant reconciledAt) {
+        jdbcTemplate.update("""
+                UPDATE vote_tally_watermark
+                SET reconciled_through_vote_id = GREATEST(reconciled_through_vote_id, ?), reconciled_at = ?
+                WHERE id = 1""", reconciledThroughVoteId, Timestamp.from(reconciledAt));
+    }
+}
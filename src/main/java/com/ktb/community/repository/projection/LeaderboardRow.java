@@ -0,0 +1,17 @@
+package com.ktb.community.repository.projection;
+
+import com.ktb.community.ranking.LeaderboardEntry;
+
+// 메모리 랭킹 재적재용 user_score 한 줄, lastVoteId 는 이 점수에 포함된 가장 큰 post_vote id
+public record LeaderboardRow(
+        Long userId,
+        int voteScore,
+        long totalVotes,
+        long correctVotes,
+        long lastVoteId
+) {
+
+    public LeaderboardEntry toEntry() {
+        return new LeaderboardEntry(userId, voteScore, totalVotes, correctVotes);
+    }
+}
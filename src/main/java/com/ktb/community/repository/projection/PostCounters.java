@@ -0,0 +1,20 @@
+package com.ktb.community.repository.projection;
+
+public record PostCounters(
+        long viewCount,
+        long likeCount,
+        long replyCount,
+        long aiVoteCount,
+        long humanVoteCount,
+        long totalVoteCount
+) {
+
+    public static PostCounters empty() {
+        return new PostCounters(0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public PostCounters plusViews(long pendingViews) {
+        return new PostCounters(viewCount + pendingViews, likeCount, replyCount,
+                aiVoteCount, humanVoteCount, totalVoteCount);
+    }
+}
@@ -0,0 +1,4 @@
+package com.ktb.community.repository.projection;
+
+public record PostLikeCount(Long postId, long likeCount) {
+}
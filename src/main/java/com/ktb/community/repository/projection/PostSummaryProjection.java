@@ -6,6 +6,7 @@ public record PostSummaryProjection(
         Long id,
         String title,
         String content,
+        Integer contentLength,
         Long authorId,
         String authorNickname,
         String customAuthorName,
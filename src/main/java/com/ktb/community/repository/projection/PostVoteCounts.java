@@ -0,0 +1,24 @@
+package com.ktb.community.repository.projection;
+
+import com.ktb.community.entity.VoteType;
+
+public record PostVoteCounts(
+        long aiVoteCount,
+        long humanVoteCount,
+        long totalVoteCount
+) {
+
+    public static PostVoteCounts empty() {
+        return new PostVoteCounts(0L, 0L, 0L);
+    }
+
+    public static PostVoteCounts of(VoteType voteType) {
+        return voteType == VoteType.AI ? new PostVoteCounts(1L, 0L, 1L) : new PostVoteCounts(0L, 1L, 1L);
+    }
+
+    public PostVoteCounts plus(PostVoteCounts other) {
+        return new PostVoteCounts(aiVoteCount + other.aiVoteCount,
+                humanVoteCount + other.humanVoteCount,
+                totalVoteCount + other.totalVoteCount);
+    }
+}
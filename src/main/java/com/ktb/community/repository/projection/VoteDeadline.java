@@ -0,0 +1,9 @@
+package com.ktb.community.repository.projection;
+
+import java.time.Instant;
+
+public record VoteDeadline(
+        Long postId,
+        Instant deadlineAt
+) {
+}
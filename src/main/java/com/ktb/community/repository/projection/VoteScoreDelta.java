@@ -0,0 +1,27 @@
+package com.ktb.community.repository.projection;
+
+// user_score 에 더할 투표 수 (vote_score 는 correctVotes 만큼 오른다)
+// lastVoteId 는 포함된 가장 큰 post_vote id, 0 이면 user_score.last_vote_id 를 건드리지 않는다
+public record VoteScoreDelta(
+        long correctVotes,
+        long totalVotes,
+        long lastVoteId
+) {
+
+    public VoteScoreDelta(long correctVotes, long totalVotes) {
+        this(correctVotes, totalVotes, 0L);
+    }
+
+    public static VoteScoreDelta of(boolean correct) {
+        return new VoteScoreDelta(correct ? 1L : 0L, 1L);
+    }
+
+    public static VoteScoreDelta of(long voteId, boolean correct) {
+        return new VoteScoreDelta(correct ? 1L : 0L, 1L, voteId);
+    }
+
+    public VoteScoreDelta plus(VoteScoreDelta other) {
+        return new VoteScoreDelta(correctVotes + other.correctVotes, totalVotes + other.totalVotes,
+                Math.max(lastVoteId, other.lastVoteId));
+    }
+}
@@ -0,0 +1,6 @@
+package com.ktb.community.repository.projection;
+
+import java.time.Instant;
+
+public record VoteTallyWatermark(long reconciledThroughVoteId, Instant reconciledAt) {
+}
@@ -0,0 +1,161 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.projection.VoteDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 투표 마감이 되면 정답을 자동 공개한다
+// 앞으로 horizon 안에 마감되는 게시글만 DelayQueue 에 올려 두고, 마감 시각에 깨어나 한 번의 bulk UPDATE 로 공개
+// 새 투표 게시글은 PostService 가 커밋 후 schedule 로 올린다, 놓친 게시글은 refill 때 sweep 으로 정리
+@Slf4j
+@Component
+public class AnswerRevealScheduler implements SmartLifecycle {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final PostRepository postRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration horizon;
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<Long, Instant> scheduled = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    public AnswerRevealScheduler(PostRepository postRepository,
+                                 CacheManager cacheManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${vote.reveal.batch-size:500}") int batchSize,
+                                 @Value("${vote.reveal.horizon-hours:24}") long horizonHours) {
+        this.postRepository = postRepository;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.horizon = Duration.ofHours(horizonHours);
+    }
+
+    public void schedule(Long postId, Instant deadlineAt) {
+        if (deadlineAt == null || deadlineAt.isAfter(Instant.now().plus(horizon))) {
+            return;
+        }
+        if (!deadlineAt.equals(scheduled.put(postId, deadlineAt))) {
+            queue.add(new Deadline(postId, deadlineAt));
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    // 이미 마감된 게시글을 batchSize 씩 공개하고, 다음 horizon 구간의 마감을 큐에 올린다
+    @Scheduled(initialDelayString = "${vote.reveal.refill-interval-ms:3600000}",
+            fixedDelayString = "${vote.reveal.refill-interval-ms:3600000}")
+    public void refill() {
+        sweepExpired();
+        Instant now = Instant.now();
+        List<VoteDeadline> upcoming = postRepository.findUpcomingVoteDeadlines(now, now.plus(horizon));
+        upcoming.forEach(deadline -> schedule(deadline.postId(), deadline.deadlineAt()));
+        log.debug("Answer reveal queue refilled with {} upcoming deadlines", upcoming.size());
+    }
+
+    public int sweepExpired() {
+        int revealed = 0;
+        while (true) {
+            List<Long> expired = postRepository.findByVoteDeadlineAtBeforeAndAnswerRevealedAtIsNull(
+                    Instant.now(), PageRequest.of(0, batchSize));
+            if (expired.isEmpty()) {
+                return revealed;
+            }
+            int updated = reveal(expired);
+            revealed += updated;
+            if (updated == 0) {
+                // 다른 노드가 동시에 공개 중이면 같은 id 를 계속 읽지 않도록 중단
+                return revealed;
+            }
+        }
+    }
+
+    int reveal(List<Long> postIds) {
+        Integer updated = transactionTemplate.execute(status -> postRepository.revealAnswers(postIds, Instant.now()));
+        Cache postDetail = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        postIds.forEach(postId -> {
+            scheduled.remove(postId);
+            if (postDetail != null) {
+                postDetail.evict(postId);
+            }
+        });
+        return updated == null ? 0 : updated;
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Deadline> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+                // 함께 마감된 게시글은 한 번에 (DelayQueue.drainTo 는 마감된 것만 꺼낸다)
+                queue.drainTo(batch, batchSize - 1);
+                int revealed = reveal(batch.stream().map(Deadline::postId).toList());
+                log.debug("Revealed answers for {} of {} posts", revealed, batch.size());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.warn("Failed to reveal answers for {} posts, retrying", batch.size(), ex);
+                Instant retryAt = Instant.now().plus(RETRY_DELAY);
+                batch.forEach(deadline -> queue.add(new Deadline(deadline.postId(), retryAt)));
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        refill();
+        worker = Thread.ofPlatform().daemon().name("answer-reveal").start(this::runWorker);
+    }
+
+    @Override
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    private record Deadline(Long postId, Instant deadlineAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), deadlineAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return deadlineAt.compareTo(((Deadline) other).deadlineAt);
+        }
+    }
+}
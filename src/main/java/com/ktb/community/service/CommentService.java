@@ -4,6 +4,7 @@ import com.ktb.community.entity.Comment;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.User;
 import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.support.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,7 @@ public class CommentService {
     private final PostService postService;
     private final OwnershipVerifier ownershipVerifier;
     private final PostStatsService postStatsService;
+    private final PostDetailService postDetailService;
 
     @Transactional
     public Comment addComment(Long postId, User user, String content) {
@@ -36,11 +38,19 @@ public class CommentService {
         return saved;
     }
 
+    // 느린 경로: offset + COUNT(*), 새 클라이언트는 getCommentsByCursor 사용
     public Page<Comment> getComments(Long postId, Pageable pageable) {
         postService.getPostOrThrow(postId);
         return commentRepository.findPageByPostId(postId, pageable);
     }
 
+    // 전체 댓글 수는 COUNT(*) 대신 post_stats.reply_count 를 사용
+    public CommentCursorResult getCommentsByCursor(Long postId, Long cursorId, int size) {
+        postDetailService.getSnapshot(postId);
+        CursorPage<Comment> page = commentRepository.findAllByCursor(postId, cursorId, size);
+        return new CommentCursorResult(page, postStatsService.getReplyCount(postId));
+    }
+
     @Transactional
     public Comment updateComment(Long commentId, User user, String content) {
         checkStringLengthOrThrow(content, 150);
@@ -64,4 +74,7 @@ public class CommentService {
                 .filter(c -> !c.isDeleted())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Comment not found"));
     }
+
+    public record CommentCursorResult(CursorPage<Comment> page, long totalCount) {
+    }
 }
@@ -1,57 +1,210 @@
 package com.ktb.community.service;
 
 import com.amazonaws.SdkClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.ktb.community.entity.File;
+import com.ktb.community.file.ImageVariantProcessor;
 import com.ktb.community.repository.FileRepository;
+import com.ktb.community.support.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FileStorageService {
 
+    // S3 DeleteObjects 한 번에 지울 수 있는 최대 key 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private final FileRepository fileRepository;
     private final AmazonS3Client S3Client;
+    private final S3StreamUploader s3StreamUploader;
+    private final ImageVariantProcessor imageVariantProcessor;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
 
-    @Transactional
-    public File upload(MultipartFile multipartFile) {
+    @Value("${file.upload.max-size-bytes:104857600}")
+    private long maxUploadBytes;
+
+    // presigned 업로드는 인증 없이 받을 수 있고 게시글/프로필 이미지로만 쓰이므로 multipart 업로드(5MB)와 같은 한도
+    @Value("${file.upload.presign-max-size-bytes:5242880}")
+    private long maxPresignedUploadBytes;
 
+    @Value("${file.upload.presign-expiration:PT10M}")
+    private Duration presignExpiration;
 
+    // S3 로 보내는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 올리고, 메타데이터 저장만 repository 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public File upload(MultipartFile multipartFile) {
         if (multipartFile == null || multipartFile.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File payload is empty");
         }
-        String originalFilename = multipartFile.getOriginalFilename();
-        if (!StringUtils.hasText(originalFilename)) {
-            originalFilename = "anonymous";
+        try (InputStream in = multipartFile.getInputStream()) {
+            return store(multipartFile.getOriginalFilename(), multipartFile.getContentType(), in);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read file content", ex);
         }
+    }
 
-        String storageKey = "uploads/" + UUID.randomUUID();
-        String fileUrl = "https://" + bucketName + ".s3.amazonaws.com/" + storageKey;
-        int fileSize = (int) multipartFile.getSize();
+    // 요청 본문을 multipart 파싱(임시 파일/메모리 버퍼링) 없이 그대로 S3 로 흘려 보낸다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public File uploadStream(String originalFilename, String contentType, InputStream in) {
         try {
-            //multipartFile.getInputStream().transferTo(java.io.OutputStream.nullOutputStream());
-            S3Client.putObject(bucketName, storageKey, multipartFile.getInputStream(), getObjectMetadata(multipartFile));
+            return store(originalFilename, contentType, in);
         } catch (IOException ex) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read file content", ex);
         }
+    }
+
+    // 올리면서 SHA-256 을 계산하고, 같은 내용의 파일이 이미 있으면 방금 올린 객체는 지우고 기존 객체를 공유한다
+    private File store(String originalFilename, String contentType, InputStream in) throws IOException {
+        if (!StringUtils.hasText(originalFilename)) {
+            originalFilename = "anonymous";
+        }
+        String storageKey = newStorageKey();
+        String fileUrl = fileUrl(storageKey);
+        MessageDigest digest = sha256();
+        long fileSize;
+        try {
+            fileSize = s3StreamUploader.upload(storageKey, new DigestInputStream(in, digest), contentType, maxUploadBytes);
+        } catch (SdkClientException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to upload file", ex);
+        }
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+
+        Optional<File> duplicate = fileRepository.findFirstByContentHashAndCommittedTrueAndDeletedAtIsNullOrderByIdAsc(contentHash);
+        if (duplicate.isPresent() && discardDuplicate(storageKey)) {
+            File file = fileRepository.save(File.sharing(originalFilename, duplicate.get()));
+            if (file.getThumbnailUrl() == null) {
+                imageVariantProcessor.submit(file, contentType);
+            }
+            return file;
+        }
+
+        File file = fileRepository.save(File.pending(originalFilename, storageKey, fileUrl, Math.toIntExact(fileSize), contentHash));
+        imageVariantProcessor.submit(file, contentType);
+        return file;
+    }
+
+    // 지우지 못하면 새 객체를 그대로 쓴다 (공유하지 않을 뿐 잘못된 것은 없다)
+    private boolean discardDuplicate(String storageKey) {
+        try {
+            S3Client.deleteObject(bucketName, storageKey);
+            return true;
+        } catch (SdkClientException ex) {
+            log.warn("Failed to delete duplicate upload {}, keeping it", storageKey, ex);
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // 클라이언트가 S3 에 직접 PUT 할 URL 을 만들고, confirm 전까지 게시글에 붙일 수 없는 File 을 저장
+    // 서명만 로컬에서 계산하므로 S3 호출은 없다
+    // Content-Length 를 서명에 넣어, URL 이 유효한 동안 (confirm 이후 포함) 선언한 크기 외의 객체로는 덮어쓸 수 없다
+    @Transactional
+    public PresignedUpload presignUpload(String originalFilename, String contentType, long contentLength) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("image/")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only image files can be uploaded");
+        }
+        if (contentLength > maxPresignedUploadBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "File is too large");
+        }
+        String storageKey = newStorageKey();
+        Instant expiresAt = Instant.now().plus(presignExpiration);
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, storageKey, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        URL uploadUrl = S3Client.generatePresignedUrl(request);
+        File file = fileRepository.save(File.awaitingUpload(originalFilename, storageKey, fileUrl(storageKey),
+                Math.toIntExact(contentLength)));
+        return new PresignedUpload(file, uploadUrl.toString(), contentType, expiresAt);
+    }
+
+    // HEAD 로 객체가 실제로 올라왔는지, 크기가 허용 범위인지 확인한 뒤 사용 가능으로 표시
+    // Content-Type 과 Content-Length 는 서명에 포함되어 다른 값으로는 PUT 할 수 없다
+    @Transactional
+    public File confirmUpload(Long fileId) {
+        File file = getOrThrow(fileId);
+        if (file.isUploaded()) {
+            return file;
+        }
+        ObjectMetadata metadata;
+        try {
+            metadata = S3Client.getObjectMetadata(bucketName, file.getStorageKey());
+        } catch (AmazonS3Exception ex) {
+            if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "File is not uploaded yet");
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to verify file", ex);
+        }
+        long size = metadata.getContentLength();
+        if (size == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File payload is empty");
+        }
+        if (size > maxPresignedUploadBytes) {
+            delete(file.getStorageKey());
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "File is too large");
+        }
+        if (size != file.getFileSize()) {
+            delete(file.getStorageKey());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File size does not match the presigned upload");
+        }
+        file.markUploaded(Math.toIntExact(size));
+        String contentType = metadata.getContentType();
+        TransactionCallbacks.afterCommit(() -> imageVariantProcessor.submit(file, contentType));
+        return file;
+    }
+
+    private String newStorageKey() {
+        return "uploads/" + UUID.randomUUID();
+    }
 
-        File file = File.pending(originalFilename, storageKey, fileUrl, fileSize);
-        return fileRepository.save(file);
+    private String fileUrl(String storageKey) {
+        return "https://" + bucketName + ".s3.amazonaws.com/" + storageKey;
     }
 
     @Transactional
@@ -66,15 +219,37 @@ public class FileStorageService {
         }
     }
 
-    private ObjectMetadata getObjectMetadata(MultipartFile file) {
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentType(file.getContentType());
-        objectMetadata.setContentLength(file.getSize());
-        return objectMetadata;
+    // DeleteObjects 는 한 번에 최대 1000개라 나눠서 보내고, 실제로 지워진 key 만 돌려준다 (실패한 key 는 다음 정리 때 다시 시도)
+    public Set<String> deleteAll(List<String> storageKeys) {
+        Set<String> deleted = new HashSet<>();
+        for (int from = 0; from < storageKeys.size(); from += MAX_DELETE_KEYS) {
+            deleted.addAll(deleteBatch(storageKeys.subList(from, Math.min(from + MAX_DELETE_KEYS, storageKeys.size()))));
+        }
+        return deleted;
+    }
+
+    private Set<String> deleteBatch(List<String> storageKeys) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(storageKeys.toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            S3Client.deleteObjects(request);
+            return new HashSet<>(storageKeys);
+        } catch (MultiObjectDeleteException ex) {
+            Set<String> failed = ex.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toSet());
+            return storageKeys.stream()
+                    .filter(key -> !failed.contains(key))
+                    .collect(Collectors.toSet());
+        }
     }
 
     public File getOrThrow(Long fileId) {
         return fileRepository.findByIdAndDeletedAtIsNull(fileId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found"));
     }
+
+    public record PresignedUpload(File file, String uploadUrl, String contentType, Instant expiresAt) {
+    }
 }
@@ -0,0 +1,88 @@
+package com.ktb.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.repository.PostLikeRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 사용자별로 좋아요한 게시글 id 를 압축 비트맵으로 들고 있어 "좋아요 했나?" 를 SQL 없이 답한다
+// 처음 접근할 때 likes 에서 한 번 읽어 오고, 이후에는 좋아요/취소 커밋 후 갱신
+// 다른 서버에서 바뀐 좋아요는 cache.liked-posts.ttl-seconds 가 지나 다시 읽을 때 반영
+@Component
+public class LikedPostCache {
+
+    private final PostLikeRepository postLikeRepository;
+    private final Cache<Object, Object> cache;
+
+    @SuppressWarnings("unchecked")
+    public LikedPostCache(PostLikeRepository postLikeRepository, CacheManager cacheManager) {
+        this.postLikeRepository = postLikeRepository;
+        // Spring Cache 의 get 은 로딩 중인 항목을 건너뛰므로, 갱신이 유실되지 않게 Caffeine 을 직접 사용
+        // (트랜잭션 decorator 도 거치지 않는다, 갱신은 이미 afterCommit 에서 호출됨)
+        this.cache = (Cache<Object, Object>) cacheManager.getCache(CacheConfig.LIKED_POSTS).getNativeCache();
+    }
+
+    public boolean isLiked(Long userId, Long postId) {
+        return likedPosts(userId).contains(postId);
+    }
+
+    public Set<Long> likedAmong(Long userId, Collection<Long> postIds) {
+        LikedPosts liked = likedPosts(userId);
+        return postIds.stream()
+                .filter(liked::contains)
+                .collect(Collectors.toSet());
+    }
+
+    // 로딩 중이면 로딩이 끝난 뒤에 반영된다, 캐시에 없으면 다음 로딩이 DB 에서 읽으므로 무시
+    public void markLiked(Long userId, Long postId) {
+        cache.asMap().computeIfPresent(userId, (key, value) -> ((LikedPosts) value).add(postId));
+    }
+
+    public void markUnliked(Long userId, Long postId) {
+        cache.asMap().computeIfPresent(userId, (key, value) -> ((LikedPosts) value).remove(postId));
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private LikedPosts likedPosts(Long userId) {
+        return (LikedPosts) cache.get(userId, key -> LikedPosts.of(postLikeRepository.findPostIdsByUserId(userId)));
+    }
+
+    static final class LikedPosts {
+
+        private final Roaring64Bitmap bitmap;
+
+        private LikedPosts(Roaring64Bitmap bitmap) {
+            this.bitmap = bitmap;
+        }
+
+        static LikedPosts of(Collection<Long> postIds) {
+            Roaring64Bitmap bitmap = new Roaring64Bitmap();
+            postIds.forEach(bitmap::addLong);
+            bitmap.runOptimize();
+            return new LikedPosts(bitmap);
+        }
+
+        synchronized boolean contains(Long postId) {
+            return bitmap.contains(postId);
+        }
+
+        synchronized LikedPosts add(Long postId) {
+            bitmap.addLong(postId);
+            return this;
+        }
+
+        synchronized LikedPosts remove(Long postId) {
+            bitmap.removeLong(postId);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.dto.post.PostDetailSnapshot;
+import com.ktb.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+// 캐시 프록시를 타도록 PostService 와 분리
+// 무효화는 게시글 수정/삭제(PostService), 정답 공개(PostVoteService), 프로필 수정(UserService) 쪽에서
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostDetailService {
+
+    private final PostRepository postRepository;
+
+    @Cacheable(cacheNames = CacheConfig.POST_DETAIL, key = "#postId")
+    public PostDetailSnapshot getSnapshot(Long postId) {
+        return postRepository.findWithFilesByIdAndDeletedAtIsNull(postId)
+                .map(PostDetailSnapshot::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+    }
+}
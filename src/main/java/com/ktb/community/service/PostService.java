@@ -1,14 +1,23 @@
 package com.ktb.community.service;
 
+import com.ktb.community.config.CacheConfig;
 import com.ktb.community.entity.*;
+import com.ktb.community.dto.post.PostDetailSnapshot;
+import com.ktb.community.dto.post.PostResponse;
 import com.ktb.community.dto.post.PostSummaryResponse;
+import com.ktb.community.repository.FeedItemRepository;
 import com.ktb.community.repository.FileRepository;
 import com.ktb.community.repository.PostLikeRepository;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.projection.PostSummaryProjection;
 import com.ktb.community.support.CursorPage;
+import com.ktb.community.support.PostCursor;
 import com.ktb.community.support.PostSortType;
+import com.ktb.community.support.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +25,11 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.ktb.community.support.Util.checkStringLengthOrThrow;
 
@@ -25,13 +38,22 @@ import static com.ktb.community.support.Util.checkStringLengthOrThrow;
 @Transactional(readOnly = true)
 public class PostService {
 
+    // 피드 목록 최대 페이지 크기와 같게
+    private static final int MAX_LIKE_STATUS_BATCH = 50;
+
     private final PostRepository postRepository;
     private final FileRepository fileRepository;
     private final OwnershipVerifier ownershipVerifier;
     private final PostStatsService postStatsService;
     private final PostLikeRepository postLikeRepository;
+    private final FeedItemRepository feedItemRepository;
+    private final PostDetailService postDetailService;
+    private final AnswerRevealScheduler answerRevealScheduler;
+    private final LikedPostCache likedPostCache;
+    private final PostVoteService postVoteService;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.FEED_FIRST_PAGE, allEntries = true)
     public Post createPost(User author, String title, String content, List<Long> fileIds) {
         checkStringLengthOrThrow(title, 150);
         checkStringLengthOrThrow(content, 20000);
@@ -39,10 +61,12 @@ public class PostService {
         attachFiles(post, fileIds);
         Post saved = postRepository.save(post);
         postStatsService.initialize(saved);
+        feedItemRepository.save(FeedItem.from(saved));
         return saved;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.FEED_FIRST_PAGE, allEntries = true)
     public Post createPost(User author, String title, String content, List<Long> fileIds,
                           AuthorType authorType, String customAuthorName, Integer voteDeadlineHours) {
         checkStringLengthOrThrow(title, 150);
@@ -57,15 +81,26 @@ public class PostService {
         attachFiles(post, fileIds);
         Post saved = postRepository.save(post);
         postStatsService.initialize(saved);
+        feedItemRepository.save(FeedItem.from(saved));
+        if (voteDeadlineAt != null) {
+            Long postId = saved.getId();
+            Instant deadlineAt = voteDeadlineAt;
+            TransactionCallbacks.afterCommit(() -> answerRevealScheduler.schedule(postId, deadlineAt));
+        }
         return saved;
     }
 
-    public CursorPage<PostSummaryResponse> getPosts(Long cursorId, int size, PostSortType sortType) {
-        CursorPage<PostSummaryProjection> page = postRepository.findAllByCursor(cursorId, size, sortType);
+    // 커서 없는 첫 페이지만 캐시
+    @Cacheable(cacheNames = CacheConfig.FEED_FIRST_PAGE,
+            key = "#sortType.name() + ':' + #size",
+            condition = "#cursorId == null && #cursorToken == null")
+    public CursorPage<PostSummaryResponse> getPosts(Long cursorId, String cursorToken, int size, PostSortType sortType) {
+        PostCursor cursor = PostCursor.resolve(cursorId, cursorToken, sortType);
+        CursorPage<PostSummaryProjection> page = postRepository.findAllByCursor(cursor, size, sortType);
         List<PostSummaryResponse> responses = page.getContents().stream()
                 .map(PostSummaryResponse::from)
                 .toList();
-        return new CursorPage<>(responses, page.getNextCursor(), page.isHasNext());
+        return new CursorPage<>(responses, page.getNextCursor(), page.getNextCursorToken(), page.isHasNext());
     }
 
     public Post getPostOrThrow(Long postId) {
@@ -73,20 +108,33 @@ public class PostService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
     }
 
-    @Transactional
-    public Post viewPost(Long postId) {
-        Post post = getPostOrThrow(postId);
+    // 본문/작성자/첨부는 캐시된 스냅샷, 카운터는 post_stats 에서 따로 읽어 덮어쓴다
+    // 스냅샷으로 게시글이 있는지 먼저 확인한 뒤에 투표를 조회한다 (없는 게시글이면 404 로 끝)
+    public PostResponse viewPost(Long postId, Long viewerId) {
+        PostDetailSnapshot snapshot = postDetailService.getSnapshot(postId);
         postStatsService.increaseView(postId);
-        return post;
+        PostResponse.CurrentUserVote currentUserVote = null;
+        if (viewerId != null) {
+            PostVote vote = postVoteService.getCurrentUserVote(postId, viewerId);
+            if (vote != null) {
+                currentUserVote = new PostResponse.CurrentUserVote(vote.getVoteType(), vote.isCorrect());
+            }
+        }
+        return PostResponse.from(snapshot, postStatsService.getCounters(postId), currentUserVote);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.FEED_FIRST_PAGE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId")
+    })
     public Post updatePost(Long postId, User user, String title, String content, List<Long> fileIds) {
         checkStringLengthOrThrow(title, 150);
         checkStringLengthOrThrow(content, 20000);
         Post post = getPostOrThrow(postId);
         ownershipVerifier.check(post, user, "Only author can modify this post");
         post.update(title, content);
+        feedItemRepository.findById(postId).ifPresent(item -> item.update(title, content));
         if (fileIds != null) {
             List<File> files = loadFiles(fileIds);
             post.replaceAttachments(files);
@@ -96,10 +144,15 @@ public class PostService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.FEED_FIRST_PAGE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId")
+    })
     public void deletePost(Long postId, User user) {
         Post post = getPostOrThrow(postId);
         ownershipVerifier.check(post, user, "Only author can modify this post");
         post.softDelete();
+        feedItemRepository.deleteById(postId);
     }
 
     private void attachFiles(Post post, List<Long> fileIds) {
@@ -112,46 +165,70 @@ public class PostService {
     }
 
     private List<File> loadFiles(List<Long> fileIds) {
-        List<File> files = fileRepository.findByIdIn(fileIds);
+        List<File> files = fileRepository.findLiveByIdInForUpdate(fileIds);
         if (files.size() != fileIds.size()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "One or more files not found");
         }
+        if (files.stream().anyMatch(file -> !file.isUploaded())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File upload is not confirmed");
+        }
         return files;
     }
 
     public PostLikeResult checkPostLiked(Long postId, User user) {
-        boolean alreadyLiked = postLikeRepository.existsByPostIdAndUserId(postId, user.getId());
+        boolean alreadyLiked = likedPostCache.isLiked(user.getId(), postId);
         long likeCount;
         likeCount = postStatsService.getStats(postId).getLikeCount();
         return new PostLikeResult(postId, alreadyLiked, likeCount);
     }
 
-    @Transactional
-    public PostLikeResult likePost(Long postId, User user) {
-        Post post = getPostOrThrow(postId);
-        boolean alreadyLiked = postLikeRepository.existsByPostIdAndUserId(postId, user.getId());
-        long likeCount;
+    // 피드 한 페이지의 좋아요 여부는 비트맵에서, 좋아요 수는 IN 쿼리 한 번으로 조회 (요청 순서 유지, 중복 id 제거)
+    public List<PostLikeResult> checkPostsLiked(List<Long> postIds, User user) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.size() > MAX_LIKE_STATUS_BATCH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many post ids");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> likedIds = findLikedPostIds(user.getId(), ids);
+        Map<Long, Long> likeCounts = postStatsService.getLikeCounts(ids);
+        return ids.stream()
+                .map(id -> new PostLikeResult(id, likedIds.contains(id), likeCounts.getOrDefault(id, 0L)))
+                .toList();
+    }
 
-        if (alreadyLiked) {
-            likeCount = postStatsService.getStats(postId).getLikeCount();
-        } else {
-            postLikeRepository.save(PostLike.of(user, post));
-            likeCount = postStatsService.increaseLike(postId).getLikeCount();
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
         }
+        return likedPostCache.likedAmong(userId, postIds);
+    }
 
+    // 게시글은 캐시된 스냅샷으로 확인하고, INSERT IGNORE / DELETE 의 영향받은 row 수만큼만 카운터를 움직인다
+    // 비트맵은 DB 결과대로 커밋 후 맞춘다 (다른 서버에서 바뀌어 어긋났던 경우도 여기서 바로잡힘)
+    @Transactional
+    public PostLikeResult likePost(Long postId, User user) {
+        postDetailService.getSnapshot(postId);
+        Long userId = user.getId();
+        boolean inserted = postLikeRepository.insertIfAbsent(userId, postId) > 0;
+        long likeCount = inserted
+                ? postStatsService.increaseLike(postId)
+                : postStatsService.getCounters(postId).likeCount();
+        TransactionCallbacks.afterCommit(() -> likedPostCache.markLiked(userId, postId));
         return new PostLikeResult(postId, true, likeCount);
     }
 
     @Transactional
     public PostLikeResult unlikePost(Long postId, User user) {
-        Post post = getPostOrThrow(postId);
-        return postLikeRepository.findByPostIdAndUserId(postId, user.getId())
-                .map(existing -> {
-                    postLikeRepository.delete(existing);
-                    long likeCount = postStatsService.decreaseLike(postId).getLikeCount();
-                    return new PostLikeResult(postId, false, likeCount);
-                })
-                .orElseGet(() -> new PostLikeResult(post.getId(), false, postStatsService.getStats(postId).getLikeCount()));
+        postDetailService.getSnapshot(postId);
+        Long userId = user.getId();
+        boolean deleted = postLikeRepository.deleteIfPresent(userId, postId) > 0;
+        long likeCount = deleted
+                ? postStatsService.decreaseLike(postId)
+                : postStatsService.getCounters(postId).likeCount();
+        TransactionCallbacks.afterCommit(() -> likedPostCache.markUnliked(userId, postId));
+        return new PostLikeResult(postId, false, likeCount);
     }
 
     public record PostLikeResult(Long postId, boolean liked, long likeCount) {
@@ -2,14 +2,23 @@ package com.ktb.community.service;
 
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostStats;
+import com.ktb.community.repository.FeedItemRepository;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.projection.PostCounters;
+import com.ktb.community.repository.projection.PostLikeCount;
+import com.ktb.community.repository.projection.PostVoteCounts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -17,6 +26,9 @@ public class PostStatsService {
 
     private final PostStatsRepository postStatsRepository;
     private final PostRepository postRepository;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final FeedItemRepository feedItemRepository;
+    private final VoteTallyBuffer voteTallyBuffer;
 
     @Transactional
     public PostStats initialize(Post post) {
@@ -31,39 +43,58 @@ public class PostStatsService {
                 });
     }
 
-    @Transactional
-    public PostStats increaseView(Long postId) {
-        PostStats stats = getOrCreate(postId);
-        stats.incrementView();
-        return stats;
+    public void increaseView(Long postId) {
+        postViewCountBuffer.increment(postId);
     }
 
     @Transactional
-    public PostStats increaseLike(Long postId) {
-        PostStats stats = getOrCreate(postId);
-        stats.incrementLike();
-        return stats;
+    public long increaseLike(Long postId) {
+        applyCounterUpdate(postId, postStatsRepository::incrementLikeCount);
+        long likeCount = postStatsRepository.findLikeCount(postId);
+        feedItemRepository.updateLikeCount(postId, likeCount);
+        return likeCount;
     }
 
     @Transactional
-    public PostStats decreaseLike(Long postId) {
-        PostStats stats = getOrCreate(postId);
-        stats.decrementLike();
-        return stats;
+    public long decreaseLike(Long postId) {
+        applyCounterUpdate(postId, postStatsRepository::decrementLikeCount);
+        long likeCount = postStatsRepository.findLikeCount(postId);
+        feedItemRepository.updateLikeCount(postId, likeCount);
+        return likeCount;
     }
 
     @Transactional
-    public PostStats increaseReply(Long postId) {
-        PostStats stats = getOrCreate(postId);
-        stats.incrementReply();
-        return stats;
+    public void increaseReply(Long postId) {
+        applyCounterUpdate(postId, postStatsRepository::incrementReplyCount);
+        feedItemRepository.updateReplyCount(postId, postStatsRepository.findReplyCount(postId));
     }
 
     @Transactional
-    public PostStats decreaseReply(Long postId) {
-        PostStats stats = getOrCreate(postId);
-        stats.decrementReply();
-        return stats;
+    public void decreaseReply(Long postId) {
+        applyCounterUpdate(postId, postStatsRepository::decrementReplyCount);
+        feedItemRepository.updateReplyCount(postId, postStatsRepository.findReplyCount(postId));
+    }
+
+    // post_stats + 아직 VoteTallyBuffer 에서 반영되지 않은 투표
+    public PostVoteCounts getVoteCounts(Long postId) {
+        return postStatsRepository.findVoteCounts(postId)
+                .plus(voteTallyBuffer.pendingVoteCounts(postId));
+    }
+
+    // post_stats PK 한 건 조회 + 아직 flush 되지 않은 조회수
+    public PostCounters getCounters(Long postId) {
+        return postStatsRepository.findCounters(postId)
+                .plusViews(postViewCountBuffer.pendingCount(postId));
+    }
+
+    // 통계 row 가 없는 게시글은 결과에 없다 (0 으로 취급)
+    public Map<Long, Long> getLikeCounts(Collection<Long> postIds) {
+        return postStatsRepository.findLikeCounts(postIds).stream()
+                .collect(Collectors.toMap(PostLikeCount::postId, PostLikeCount::likeCount));
+    }
+
+    public long getReplyCount(Long postId) {
+        return postStatsRepository.findReplyCount(postId);
     }
 
     public PostStats getStats(Long postId) {
@@ -80,4 +111,14 @@ public class PostStatsService {
                     return postStatsRepository.save(stats);
                 });
     }
+
+    private void applyCounterUpdate(Long postId, ToIntFunction<Long> update) {
+        if (update.applyAsInt(postId) > 0) {
+            return;
+        }
+        // 통계 row 가 없는 예전 게시글은 row 를 만든 뒤 한 번 더 반영
+        getOrCreate(postId);
+        postStatsRepository.flush();
+        update.applyAsInt(postId);
+    }
 }
@@ -0,0 +1,98 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수는 메모리에 모아두었다가 주기적으로 post_stats 에 일괄 반영 (hot post 의 row lock 경합 방지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private final PostStatsRepository postStatsRepository;
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // pending 에서 꺼냈지만 아직 커밋되지 않은 조회수, 반영이 끝나거나 pending 에 되돌린 뒤에 지운다
+    private final ConcurrentMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // 지난 flush 때 pending 에서 떼어낸 adder 와 그때 반영한 값
+    private Map<Long, Detached> detached = new HashMap<>();
+
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return (adder != null ? adder.sum() : 0L) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            postStatsRepository.addViewCounts(deltas);
+        } catch (RuntimeException ex) {
+            // 반영에 실패한 조회수는 버퍼에 되돌려 다음 flush 때 재시도
+            deltas.forEach(this::add);
+            log.warn("Failed to flush view counts for {} posts", deltas.size(), ex);
+        } finally {
+            deltas.forEach(this::release);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // adder 를 map 에서 떼어낸 뒤 읽으므로 이후의 조회는 새 adder 에 쌓인다
+    // 떼어내기 직전에 adder 를 받아 간 스레드의 증가분은 다음 flush 때 차이만큼 반영
+    private synchronized Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        detached.forEach((postId, previous) -> {
+            long late = previous.adder().sum() - previous.drained();
+            if (late > 0) {
+                deltas.merge(postId, late, Long::sum);
+                inFlight.merge(postId, late, Long::sum);
+            }
+        });
+        Map<Long, Detached> next = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            LongAdder adder = pending.remove(postId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sum();
+            next.put(postId, new Detached(adder, delta));
+            if (delta > 0) {
+                deltas.merge(postId, delta, Long::sum);
+                inFlight.merge(postId, delta, Long::sum);
+            }
+        }
+        detached = next;
+        return deltas;
+    }
+
+    private void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    private void release(Long postId, long delta) {
+        inFlight.computeIfPresent(postId, (id, count) -> count == delta ? null : count - delta);
+    }
+
+    private record Detached(LongAdder adder, long drained) {
+    }
+}
@@ -1,59 +1,71 @@
 package com.ktb.community.service;
 
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.dto.post.PostDetailSnapshot;
 import com.ktb.community.dto.vote.*;
 import com.ktb.community.entity.*;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.PostVoteRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import com.ktb.community.support.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostVoteService {
 
+    private static final String DUPLICATE_VOTE_CONSTRAINT = "unique_user_post_vote";
+
     private final PostRepository postRepository;
     private final PostVoteRepository postVoteRepository;
     private final UserRepository userRepository;
     private final PostStatsService postStatsService;
     private final UserScoreService userScoreService;
+    private final PostDetailService postDetailService;
+    private final VoteTallyBuffer voteTallyBuffer;
 
+    // 중복 투표는 조회하지 않고 unique_user_post_vote 제약으로 걸러낸다
+    // 게시글은 캐시된 스냅샷으로 검사하고, user/post 는 프록시 참조만 넘긴다
+    // 투표 수/점수는 커밋 후 VoteTallyBuffer 가 모아서 반영, 응답에는 반영 대기분과 이번 투표를 더해 돌려준다
     @Transactional
     public VoteResponse votePost(Long postId, Long userId, VoteRequest request) {
-        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        PostDetailSnapshot post = postDetailService.getSnapshot(postId);
 
         if (!post.canVote()) {
             throw new IllegalStateException("투표가 마감된 게시글입니다.");
         }
 
-        if (postVoteRepository.existsByPostIdAndUserId(postId, userId)) {
-            throw new IllegalStateException("이미 투표한 게시글입니다.");
-        }
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        PostVote vote = PostVote.create(user, post, request.getVoteType());
-        postVoteRepository.save(vote);
-
-        PostStats stats = postStatsService.getOrCreate(post.getId());
-        if (request.getVoteType() == VoteType.AI) {
-            stats.incrementAiVote();
-        } else {
-            stats.incrementHumanVote();
+        boolean correct = post.isCorrectVote(request.getVoteType());
+        PostVote vote = PostVote.of(
+                userRepository.getReferenceById(userId),
+                postRepository.getReferenceById(postId),
+                request.getVoteType(),
+                correct
+        );
+        try {
+            postVoteRepository.save(vote);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateVote(ex)) {
+                throw new IllegalStateException("이미 투표한 게시글입니다.");
+            }
+            throw ex;
         }
 
-        if (vote.isCorrect()) {
-            userScoreService.incrementCorrectVote(user);
-        } else {
-            userScoreService.incrementTotalVote(user);
-        }
+        VoteTallyBuffer.VoteEvent event = new VoteTallyBuffer.VoteEvent(vote.getId(), postId, userId, request.getVoteType(), correct);
+        TransactionCallbacks.afterCommit(() -> voteTallyBuffer.enqueue(event));
 
-        UserScore userScore = userScoreService.getUserScore(userId);
-        int totalScore = userScore != null ? userScore.getVoteScore() : 0;
+        PostVoteCounts voteCounts = postStatsService.getVoteCounts(postId)
+                .plus(PostVoteCounts.of(request.getVoteType()));
+        int totalScore = userScoreService.getVoteScore(userId) + (correct ? 1 : 0);
 
         return VoteResponse.builder()
                 .voteId(vote.getId())
@@ -61,9 +73,9 @@ public class PostVoteService {
                 .isCorrect(vote.isCorrect())
                 .userTotalScore(totalScore)
                 .postVoteStats(VoteResponse.VoteStatsDto.builder()
-                        .aiVoteCount(stats.getAiVoteCount())
-                        .humanVoteCount(stats.getHumanVoteCount())
-                        .totalVoteCount(stats.getTotalVoteCount())
+                        .aiVoteCount(voteCounts.aiVoteCount())
+                        .humanVoteCount(voteCounts.humanVoteCount())
+                        .totalVoteCount(voteCounts.totalVoteCount())
                         .build())
                 .createdAt(vote.getCreatedAt())
                 .build();
@@ -105,6 +117,7 @@ public class PostVoteService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId")
     public void revealAnswer(Long postId) {
         Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
@@ -116,4 +129,16 @@ public class PostVoteService {
         return postVoteRepository.findByPostIdAndUserId(postId, userId)
                 .orElse(null);
     }
+
+    // FK 위반(없는 사용자/게시글) 같은 다른 무결성 오류는 중복 투표로 보지 않는다
+    // 제약 이름은 DB 에 따라 "post_vote.unique_user_post_vote" 처럼 앞뒤가 붙어 온다
+    private static boolean isDuplicateVote(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(DUPLICATE_VOTE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,139 @@
+package com.ktb.community.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 입력 스트림을 partSize 버퍼 하나로 읽어 S3 에 바로 올린다 (업로드 하나당 메모리는 버퍼 한 개로 고정)
+// 첫 버퍼에 다 들어오면 putObject 한 번, 넘치면 multipart upload 로 part 를 순서대로 올린다
+// 버퍼는 전체 bufferPoolSize 개까지만 만들고 재사용, 모두 사용 중이면 acquireTimeout 만큼 기다린 뒤 503
+@Slf4j
+@Component
+public class S3StreamUploader {
+
+    private final AmazonS3Client s3Client;
+    private final String bucketName;
+    private final int partSize;
+    private final long acquireTimeoutMillis;
+    private final Semaphore bufferPermits;
+    private final ConcurrentLinkedQueue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+
+    public S3StreamUploader(AmazonS3Client s3Client,
+                            @Value("${aws.s3.bucket}") String bucketName,
+                            @Value("${file.upload.part-size-bytes:5242880}") int partSize,
+                            @Value("${file.upload.buffer-pool-size:16}") int bufferPoolSize,
+                            @Value("${file.upload.buffer-acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = partSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.bufferPermits = new Semaphore(bufferPoolSize);
+    }
+
+    // 올린 바이트 수를 돌려준다, maxBytes 를 넘으면 올리던 것을 취소하고 413
+    public long upload(String storageKey, InputStream in, String contentType, long maxBytes) throws IOException {
+        byte[] buffer = acquireBuffer();
+        try {
+            int read = in.readNBytes(buffer, 0, buffer.length);
+            if (read < buffer.length) {
+                checkSize(read, maxBytes);
+                s3Client.putObject(bucketName, storageKey, new ByteArrayInputStream(buffer, 0, read), metadata(contentType, read));
+                return read;
+            }
+            return uploadMultipart(storageKey, in, contentType, maxBytes, buffer);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private long uploadMultipart(String storageKey, InputStream in, String contentType, long maxBytes, byte[] buffer) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, storageKey, metadata)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long total = 0;
+            int read = buffer.length;
+            while (read > 0) {
+                total += read;
+                checkSize(total, maxBytes);
+                UploadPartRequest part = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(storageKey)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partETags.size() + 1)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+                        .withPartSize(read);
+                partETags.add(s3Client.uploadPart(part).getPartETag());
+                read = in.readNBytes(buffer, 0, buffer.length);
+            }
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, storageKey, uploadId, partETags));
+            return total;
+        } catch (IOException | RuntimeException ex) {
+            abortQuietly(storageKey, uploadId);
+            throw ex;
+        }
+    }
+
+    private void checkSize(long size, long maxBytes) {
+        if (size == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File payload is empty");
+        }
+        if (size > maxBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "File is too large");
+        }
+    }
+
+    private void abortQuietly(String storageKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, storageKey, uploadId));
+        } catch (RuntimeException ex) {
+            // 남은 part 는 버킷의 미완료 multipart 정리 규칙(lifecycle)으로 지워진다
+            log.warn("Failed to abort multipart upload {} for {}", uploadId, storageKey, ex);
+        }
+    }
+
+    private byte[] acquireBuffer() {
+        try {
+            if (!bufferPermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads in progress");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Upload interrupted", ex);
+        }
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        bufferPermits.release();
+    }
+
+    private static ObjectMetadata metadata(String contentType, long contentLength) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(contentLength);
+        return metadata;
+    }
+}
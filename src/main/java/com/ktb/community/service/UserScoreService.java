@@ -3,6 +3,7 @@ package com.ktb.community.service;
 import com.ktb.community.dto.vote.UserRankingResponse;
 import com.ktb.community.entity.User;
 import com.ktb.community.entity.UserScore;
+import com.ktb.community.ranking.RankingSource;
 import com.ktb.community.repository.UserScoreRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -19,6 +21,8 @@ import java.util.stream.IntStream;
 public class UserScoreService {
 
     private final UserScoreRepository userScoreRepository;
+    private final RankingSource rankingSource;
+    private final VoteTallyBuffer voteTallyBuffer;
 
     @Transactional
     public UserScore getOrCreateUserScore(User user) {
@@ -29,16 +33,10 @@ public class UserScoreService {
                 });
     }
 
-    @Transactional
-    public void incrementCorrectVote(User user) {
-        UserScore score = getOrCreateUserScore(user);
-        score.incrementScore();
-    }
-
-    @Transactional
-    public void incrementTotalVote(User user) {
-        UserScore score = getOrCreateUserScore(user);
-        score.incrementTotalVotes();
+    // user_score + 아직 VoteTallyBuffer 에서 반영되지 않은 맞힌 투표
+    public int getVoteScore(Long userId) {
+        return userScoreRepository.findVoteScore(userId)
+                + (int) voteTallyBuffer.pendingScore(userId).correctVotes();
     }
 
     public UserScore getUserScore(Long userId) {
@@ -47,6 +45,12 @@ public class UserScoreService {
     }
 
     public UserRankingResponse.RankingListResponse getTopRankings(int limit, Long currentUserId) {
+        // 기동 직후 랭킹 소스가 준비되기 전에는 DB 로 조회
+        return rankingSource.getTopRankings(limit, currentUserId)
+                .orElseGet(() -> getTopRankingsFromDatabase(limit, currentUserId));
+    }
+
+    private UserRankingResponse.RankingListResponse getTopRankingsFromDatabase(int limit, Long currentUserId) {
         Pageable pageable = PageRequest.of(0, limit);
         List<UserScore> topScores = userScoreRepository.findTopRankings(pageable);
 
@@ -69,6 +73,8 @@ public class UserScoreService {
                 .rankings(rankings)
                 .totalUsers((int) totalUsers)
                 .myRanking(myRanking)
+                .rankedAt(Instant.now())
+                .maxStalenessSeconds(0)
                 .build();
     }
 
@@ -1,10 +1,18 @@
 package com.ktb.community.service;
 
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.dto.user.UserResponse;
 import com.ktb.community.entity.File;
 import com.ktb.community.entity.User;
+import com.ktb.community.repository.FeedItemRepository;
 import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.user.UserSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
@@ -21,6 +30,10 @@ public class UserService {
     private final UserRepository userRepository;
     private final FileRepository fileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final FeedItemRepository feedItemRepository;
+    private final UserSnapshotService userSnapshotService;
+    private final PostRepository postRepository;
+    private final CacheManager cacheManager;
 
     @Transactional
     public User register(String email, String rawPassword, String nickname, Long profileImageId) {
@@ -33,26 +46,35 @@ public class UserService {
 
         File profileImage = null;
         if (profileImageId != null) {
-            profileImage = fileRepository.findByIdAndDeletedAtIsNull(profileImageId)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile image not found"));
-            profileImage.markCommitted();
+            profileImage = loadProfileImage(profileImageId);
         }
 
         User user = User.create(email, passwordEncoder.encode(rawPassword), nickname, profileImage, false);
         return userRepository.save(user);
     }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_SNAPSHOT, key = "#userId")
     public User updateUserProfile(Long userId, String email, String nickname, Long profileImageId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         File profileImage = null;
         if(profileImageId != null) {
-            profileImage = fileRepository.findByIdAndDeletedAtIsNull(profileImageId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile image not found"));
+            profileImage = loadProfileImage(profileImageId);
         }
+        boolean nicknameChanged = !Objects.equals(user.getNickname(), nickname);
+        UserResponse before = UserResponse.from(user);
         user.updateProfile(email, nickname, profileImage);
+        if (nicknameChanged) {
+            feedItemRepository.updateAuthorNickname(userId, nickname);
+        }
+        if (!before.equals(UserResponse.from(user))) {
+            evictAuthoredPostDetails(userId);
+        }
         return user;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_SNAPSHOT, key = "#userId")
     public void updateUserPassword(Long userId, String oldPassword, String newPassword) {
         User user = userRepository.findById(userId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         if (passwordEncoder.matches(oldPassword, user.getPassword())) {
@@ -86,7 +108,23 @@ public class UserService {
         return user;
     }
 
+    // 세션의 사용자 id 를 캐시된 스냅샷으로 확인 (캐시 hit 이면 쿼리 없음)
+    public UserSnapshot getActiveSnapshot(Long userId) {
+        UserSnapshot snapshot = userSnapshotService.getSnapshot(userId);
+        if (!snapshot.isUsable()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User is inactive");
+        }
+        return snapshot;
+    }
+
+    // 연관관계에만 쓰는 프록시, 활성 여부는 스냅샷으로 확인하고 SELECT 는 하지 않는다
+    public User getActiveReference(Long userId) {
+        getActiveSnapshot(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_SNAPSHOT, key = "#user.id")
     public void markDeleted(User user) {
         user.markDeleted();
     }
@@ -96,6 +134,26 @@ public class UserService {
         user.updateLastLogin(Instant.now());
     }
 
+    // presigned 업로드가 confirm 되지 않은 파일은 S3 에 객체가 없거나 크기 검사 전일 수 있다
+    // 사용 중으로 표시해야 FileCleaner 가 지우지 않는다
+    private File loadProfileImage(Long profileImageId) {
+        File profileImage = fileRepository.findLiveByIdForUpdate(profileImageId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile image not found"));
+        if (!profileImage.isUploaded()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File upload is not confirmed");
+        }
+        profileImage.markCommitted();
+        return profileImage;
+    }
+
+    // 상세 스냅샷의 작성자 정보가 바뀐 경우 이 사용자의 게시글만 비운다 (커밋 뒤에 evict 됨)
+    private void evictAuthoredPostDetails(Long userId) {
+        Cache postDetail = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        if (postDetail != null) {
+            postRepository.findIdsByUserId(userId).forEach(postDetail::evict);
+        }
+    }
+
     private void ensureActive(User user) {
         if (user.isDeleted() || !user.isActive()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User is inactive");
@@ -0,0 +1,27 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.user.UserSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+// 캐시 프록시를 타도록 UserService 와 분리, 무효화는 UserService 의 프로필/비밀번호 변경, 탈퇴에서
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserSnapshotService {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheConfig.USER_SNAPSHOT, key = "#userId")
+    public UserSnapshot getSnapshot(Long userId) {
+        return userRepository.findById(userId)
+                .map(UserSnapshot::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+}
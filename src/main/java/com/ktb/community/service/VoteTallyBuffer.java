@@ -0,0 +1,184 @@
+package com.ktb.community.service;
+
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.ranking.RankingSource;
+import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import com.ktb.community.repository.projection.VoteScoreDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 커밋된 투표를 큐에 모았다가 게시글/사용자별로 합쳐 post_stats, user_score 에 일괄 반영 (hot post row lock 경합 방지)
+// 큐가 차면 호출한 스레드에서 바로 반영하고, 프로세스가 죽어 잃은 이벤트는 VoteTallyReconciler 가 post_vote 로 복구
+// 반영마다 vote_tally_watermark row 를 잠그므로 여러 노드의 반영은 짧게 직렬화된다
+@Slf4j
+@Component
+public class VoteTallyBuffer {
+
+    public record VoteEvent(Long voteId, Long postId, Long userId, VoteType voteType, boolean correct) {
+    }
+
+    private final PostStatsRepository postStatsRepository;
+    private final UserScoreRepository userScoreRepository;
+    private final PostVoteRepository postVoteRepository;
+    private final RankingSource rankingSource;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<VoteEvent> queue;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<VoteEvent> retry = new ArrayList<>();
+    private final ConcurrentMap<Long, PostVoteCounts> pendingPosts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, VoteScoreDelta> pendingUsers = new ConcurrentHashMap<>();
+    private volatile long reconciledThroughVoteId;
+
+    public VoteTallyBuffer(PostStatsRepository postStatsRepository,
+                           UserScoreRepository userScoreRepository,
+                           PostVoteRepository postVoteRepository,
+                           RankingSource rankingSource,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${vote.tally.queue-capacity:10000}") int queueCapacity) {
+        this.postStatsRepository = postStatsRepository;
+        this.userScoreRepository = userScoreRepository;
+        this.postVoteRepository = postVoteRepository;
+        this.rankingSource = rankingSource;
+        // afterCommit 에서 호출돼도 이미 끝난 트랜잭션에 섞이지 않도록 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void enqueue(VoteEvent event) {
+        addPending(event, 1);
+        if (queue.offer(event)) {
+            return;
+        }
+        // 큐가 가득 차면 배치를 기다리지 않고 바로 반영 (backpressure)
+        lock.lock();
+        try {
+            apply(List.of(event));
+        } catch (RuntimeException ex) {
+            retry.add(event);
+            log.warn("Failed to apply vote {} directly, retrying on next flush", event.voteId(), ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 투표 수
+    public PostVoteCounts pendingVoteCounts(Long postId) {
+        return pendingPosts.getOrDefault(postId, PostVoteCounts.empty());
+    }
+
+    public VoteScoreDelta pendingScore(Long userId) {
+        return pendingUsers.getOrDefault(userId, new VoteScoreDelta(0L, 0L));
+    }
+
+    @Scheduled(fixedDelayString = "${vote.tally.flush-interval-ms:200}")
+    public void flush() {
+        lock.lock();
+        try {
+            List<VoteEvent> events = new ArrayList<>(retry);
+            retry.clear();
+            queue.drainTo(events);
+            if (events.isEmpty()) {
+                return;
+            }
+            try {
+                apply(events);
+            } catch (RuntimeException ex) {
+                retry.addAll(events);
+                log.warn("Failed to flush {} vote events", events.size(), ex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 재계산 동안 반영을 멈추고, 재계산에 포함된 투표(id <= watermark)는 이후 반영에서 건너뛴다
+    public void reconcile(ReconcileAction action) {
+        lock.lock();
+        try {
+            flush();
+            reconciledThroughVoteId = Math.max(reconciledThroughVoteId, action.reconcile());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ReconcileAction {
+        // 재계산에 포함된 가장 큰 post_vote id
+        long reconcile();
+    }
+
+    private void apply(List<VoteEvent> events) {
+        List<VoteEvent> applied = new ArrayList<>(events.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            // 공유 watermark 를 잠가 다른 노드의 재계산과 겹치지 않게 하고, 어느 노드든 재계산에 이미 포함한 투표는 건너뛴다
+            long watermark = Math.max(reconciledThroughVoteId, postVoteRepository.lockWatermark().reconciledThroughVoteId());
+            Map<Long, PostVoteCounts> postDeltas = new HashMap<>();
+            Map<Long, VoteScoreDelta> userDeltas = new HashMap<>();
+            applied.clear();
+            for (VoteEvent event : events) {
+                if (event.voteId() <= watermark) {
+                    continue;
+                }
+                postDeltas.merge(event.postId(), PostVoteCounts.of(event.voteType()), PostVoteCounts::plus);
+                userDeltas.merge(event.userId(), VoteScoreDelta.of(event.voteId(), event.correct()), VoteScoreDelta::plus);
+                applied.add(event);
+            }
+            postStatsRepository.addVoteCounts(postDeltas);
+            userScoreRepository.addVoteScores(userDeltas);
+        });
+        events.forEach(event -> addPending(event, -1));
+        // 재계산에 이미 포함된 투표는 메모리 랭킹에도 다시 더하지 않는다
+        applied.forEach(event -> rankingSource.recordVote(event.voteId(), event.userId(), event.correct()));
+    }
+
+    private void addPending(VoteEvent event, int sign) {
+        PostVoteCounts postDelta = PostVoteCounts.of(event.voteType());
+        VoteScoreDelta userDelta = VoteScoreDelta.of(event.correct());
+        pendingPosts.compute(event.postId(), (id, current) -> prune(plus(current, postDelta, sign)));
+        pendingUsers.compute(event.userId(), (id, current) -> prune(plus(current, userDelta, sign)));
+    }
+
+    private static PostVoteCounts plus(PostVoteCounts current, PostVoteCounts delta, int sign) {
+        PostVoteCounts signed = new PostVoteCounts(sign * delta.aiVoteCount(), sign * delta.humanVoteCount(), sign * delta.totalVoteCount());
+        return current == null ? signed : current.plus(signed);
+    }
+
+    private static VoteScoreDelta plus(VoteScoreDelta current, VoteScoreDelta delta, int sign) {
+        VoteScoreDelta signed = new VoteScoreDelta(sign * delta.correctVotes(), sign * delta.totalVotes());
+        return current == null ? signed : current.plus(signed);
+    }
+
+    private static PostVoteCounts prune(PostVoteCounts counts) {
+        return counts.totalVoteCount() == 0 ? null : counts;
+    }
+
+    private static VoteScoreDelta prune(VoteScoreDelta delta) {
+        return delta.totalVotes() == 0 ? null : delta;
+    }
+}
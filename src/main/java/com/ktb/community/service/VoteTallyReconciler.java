@@ -0,0 +1,95 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.VoteTallyWatermark;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// post_vote 를 원본으로 post_stats 투표 수와 user_score 를 다시 계산
+// 주기적으로 직전 재계산 이후 투표가 있던 게시글/사용자만, 여러 노드 중 한 곳에서만 (shedlock)
+// 재계산 기준(마지막 post_vote id, 시각)은 vote_tally_watermark 로 모든 노드가 공유해, 다른 노드가 아직 반영하지 않은 투표도 두 번 더해지지 않는다
+// 전체 재계산(이전 프로세스가 큐에 남긴 투표 복구)은 기동을 막으므로 vote.tally.reconcile-on-startup 으로 켤 때만
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class VoteTallyReconciler implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "voteTallyReconcile";
+    // 직전 실행 시점보다 늦게 커밋된 투표도 범위에 들도록 여유를 둔다
+    private static final Duration WINDOW_MARGIN = Duration.ofMinutes(5);
+
+    private final VoteTallyBuffer voteTallyBuffer;
+    private final PostVoteRepository postVoteRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final UserScoreRepository userScoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LockingTaskExecutor lockingTaskExecutor;
+    private final boolean reconcileOnStartup;
+
+    public VoteTallyReconciler(VoteTallyBuffer voteTallyBuffer,
+                               PostVoteRepository postVoteRepository,
+                               PostStatsRepository postStatsRepository,
+                               UserScoreRepository userScoreRepository,
+                               PlatformTransactionManager transactionManager,
+                               LockProvider lockProvider,
+                               @Value("${vote.tally.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.voteTallyBuffer = voteTallyBuffer;
+        this.postVoteRepository = postVoteRepository;
+        this.postStatsRepository = postStatsRepository;
+        this.userScoreRepository = userScoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockingTaskExecutor = new DefaultLockingTaskExecutor(lockProvider);
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (reconcileOnStartup) {
+            lockingTaskExecutor.executeWithLock((Runnable) () -> reconcileVotes(true),
+                    new LockConfiguration(Instant.now(), LOCK_NAME, Duration.ofMinutes(30), Duration.ZERO));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${vote.tally.reconcile-interval-ms:600000}",
+            fixedDelayString = "${vote.tally.reconcile-interval-ms:600000}")
+    @SchedulerLock(name = LOCK_NAME, lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    public void reconcile() {
+        reconcileVotes(false);
+    }
+
+    // watermark row 를 잠근 동안에는 모든 노드의 반영이 기다린다
+    void reconcileVotes(boolean full) {
+        voteTallyBuffer.reconcile(() -> transactionTemplate.execute(status -> {
+            VoteTallyWatermark watermark = postVoteRepository.lockWatermark();
+            Instant startedAt = Instant.now();
+            Instant since = full ? Instant.EPOCH : watermark.reconciledAt().minus(WINDOW_MARGIN);
+            // 재계산은 reconciledThrough 이하 id 만 센다, 이후에 커밋된 투표는 버퍼가 반영한다
+            // COUNT 서브쿼리는 잠금 읽기라 그보다 작은 id 로 아직 커밋 전인 투표는 커밋을 기다렸다가 센다
+            Long maxVoteId = postVoteRepository.findMaxId();
+            long reconciledThrough = maxVoteId == null ? 0L : maxVoteId;
+            int posts = postStatsRepository.reconcileVoteCounts(since, reconciledThrough);
+            int users = userScoreRepository.reconcileScores(since, reconciledThrough);
+            postVoteRepository.advanceWatermark(reconciledThrough, startedAt);
+            log.debug("Reconciled vote tallies since {} for {} posts and {} users", since, posts, users);
+            return reconciledThrough;
+        }));
+    }
+}
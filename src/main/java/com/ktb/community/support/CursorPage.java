@@ -6,11 +6,17 @@ public class CursorPage<T> {
 
     private final List<T> contents;
     private final Long nextCursor;
+    private final String nextCursorToken;
     private final boolean hasNext;
 
     public CursorPage(List<T> contents, Long nextCursor, boolean hasNext) {
+        this(contents, nextCursor, null, hasNext);
+    }
+
+    public CursorPage(List<T> contents, Long nextCursor, String nextCursorToken, boolean hasNext) {
         this.contents = contents;
         this.nextCursor = nextCursor;
+        this.nextCursorToken = nextCursorToken;
         this.hasNext = hasNext;
     }
 
@@ -22,6 +28,10 @@ public class CursorPage<T> {
         return nextCursor;
     }
 
+    public String getNextCursorToken() {
+        return nextCursorToken;
+    }
+
     public boolean isHasNext() {
         return hasNext;
     }
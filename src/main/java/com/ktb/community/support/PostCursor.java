@@ -0,0 +1,56 @@
+package com.ktb.community.support;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 정렬 기준 값과 post id 를 함께 담아 다음 페이지를 추가 조회 없이 이어서 읽기 위한 커서
+public record PostCursor(PostSortType sortType, Long sortValue, Long postId) {
+
+    private static final String DELIMITER = ":";
+
+    public static PostCursor of(PostSortType sortType, long sortValue, long postId) {
+        return new PostCursor(sortType, sortValue, postId);
+    }
+
+    // 예전 클라이언트가 보내는 숫자 cursorId, 정렬 값은 모른다
+    public static PostCursor ofPostId(PostSortType sortType, Long postId) {
+        return new PostCursor(sortType, sortType == PostSortType.LATEST ? postId : null, postId);
+    }
+
+    public static PostCursor resolve(Long cursorId, String token, PostSortType sortType) {
+        if (StringUtils.hasText(token)) {
+            PostCursor cursor = decode(token);
+            if (cursor.sortType() != sortType) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match sort type");
+            }
+            return cursor;
+        }
+        return cursorId != null ? ofPostId(sortType, cursorId) : null;
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return of(PostSortType.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", ex);
+        }
+    }
+
+    public boolean hasSortValue() {
+        return sortValue != null;
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktb.community.user;
+
+import com.ktb.community.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+// 세션에 저장되는 principal, 컨트롤러가 DB 조회 없이 사용자 id/권한을 알 수 있도록 함께 담아 둔다
+@Getter
+public class CommunityUserDetails extends org.springframework.security.core.userdetails.User {
+
+    private final Long id;
+    private final boolean admin;
+
+    private CommunityUserDetails(User user, List<GrantedAuthority> authorities) {
+        super(user.getEmail(), user.getPassword(), user.isActive() && !user.isDeleted(),
+                true, true, true, authorities);
+        this.id = user.getId();
+        this.admin = user.isAdmin();
+    }
+
+    public static CommunityUserDetails from(User user) {
+        UserRole role = user.isAdmin() ? UserRole.ADMIN : UserRole.USER;
+        return new CommunityUserDetails(user, List.of(new SimpleGrantedAuthority(role.getValue())));
+    }
+}
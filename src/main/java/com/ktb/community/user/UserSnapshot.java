@@ -0,0 +1,33 @@
+package com.ktb.community.user;
+
+import com.ktb.community.entity.File;
+import com.ktb.community.entity.User;
+
+// 캐시에 두는 사용자 정보 (엔티티 대신 불변 값)
+public record UserSnapshot(
+        Long id,
+        String email,
+        String nickname,
+        String profileImageUrl,
+        boolean admin,
+        boolean active,
+        boolean deleted
+) {
+
+    public static UserSnapshot from(User user) {
+        File profileImage = user.getProfileImage();
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                profileImage != null ? profileImage.getAvatarUrlOrOriginal() : null,
+                user.isAdmin(),
+                user.isActive(),
+                user.isDeleted()
+        );
+    }
+
+    public boolean isUsable() {
+        return active && !deleted;
+    }
+}
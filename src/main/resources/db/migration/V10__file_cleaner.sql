@@ -0,0 +1,11 @@
+-- ShedLock: 여러 인스턴스 중 lock_until 이 지난 뒤 먼저 갱신한 한 곳만 작업 실행
+CREATE TABLE shedlock (
+    name       VARCHAR(64)  NOT NULL,
+    lock_until TIMESTAMP(3) NOT NULL,
+    locked_at  TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    locked_by  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- FileCleaner: 미사용 파일을 id 순 keyset 으로 조회
+CREATE INDEX idx_file_committed_deleted_id ON file (is_committed, deleted_at, id);
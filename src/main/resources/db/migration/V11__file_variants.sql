@@ -0,0 +1,3 @@
+-- 업로드 후 만든 이미지 변형(JPEG) URL, 아직 없거나 이미지가 아니면 NULL (원본 URL 로 대체)
+ALTER TABLE file ADD COLUMN thumbnail_url VARCHAR(255) NULL;
+ALTER TABLE file ADD COLUMN avatar_url VARCHAR(255) NULL;
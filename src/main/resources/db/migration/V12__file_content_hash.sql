@@ -0,0 +1,4 @@
+-- 같은 내용의 업로드는 기존 S3 객체를 공유한다: SHA-256 으로 찾고, storage_key 별 참조 수는 살아있는 row 수로 센다
+ALTER TABLE file ADD COLUMN content_hash VARCHAR(64) NULL;
+CREATE INDEX idx_file_content_hash ON file (content_hash);
+CREATE INDEX idx_file_storage_key ON file (storage_key);
@@ -0,0 +1,10 @@
+-- 모든 노드가 공유하는 투표 재계산 기준 (재계산에 포함된 마지막 post_vote id, 재계산 시각)
+-- 투표 반영(flush)과 재계산이 모두 이 row 를 잠가, 한 노드의 재계산에 포함된 투표를 다른 노드가 다시 더하지 않게 한다
+CREATE TABLE vote_tally_watermark (
+    id                         TINYINT      NOT NULL,
+    reconciled_through_vote_id BIGINT       NOT NULL,
+    reconciled_at              TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO vote_tally_watermark (id, reconciled_through_vote_id, reconciled_at) VALUES (1, 0, CURRENT_TIMESTAMP(6));
@@ -0,0 +1,5 @@
+-- user_score 에 반영된 가장 큰 post_vote id, 메모리 랭킹이 재적재한 뒤 같은 투표를 다시 더하지 않는 기준
+ALTER TABLE user_score ADD COLUMN last_vote_id BIGINT NOT NULL DEFAULT 0;
+
+UPDATE user_score us
+SET last_vote_id = COALESCE((SELECT MAX(v.id) FROM post_vote v WHERE v.user_id = us.user_id), 0);
@@ -0,0 +1,122 @@
+-- ddl-auto(update) 로 만들어지던 스키마를 그대로 옮긴 baseline
+CREATE TABLE file (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    original_file_name VARCHAR(255) NOT NULL,
+    storage_key        VARCHAR(255) NOT NULL,
+    file_url           VARCHAR(255) NOT NULL,
+    file_size          INT          NOT NULL,
+    is_committed       BOOLEAN      NOT NULL,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL,
+    deleted_at         TIMESTAMP(6) NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE user (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    nickname      VARCHAR(50)  NOT NULL,
+    file_id       BIGINT       NULL,
+    is_active     BOOLEAN      NOT NULL,
+    is_admin      BOOLEAN      NOT NULL,
+    is_deleted    BOOLEAN      NOT NULL,
+    last_login_at TIMESTAMP(6) NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_nickname UNIQUE (nickname),
+    CONSTRAINT uk_user_file_id UNIQUE (file_id),
+    CONSTRAINT fk_user_file FOREIGN KEY (file_id) REFERENCES file (id)
+);
+
+CREATE TABLE post (
+    id                 BIGINT              NOT NULL AUTO_INCREMENT,
+    user_id            BIGINT              NULL,
+    title              VARCHAR(255)        NULL,
+    content            TEXT                NULL,
+    created_at         TIMESTAMP(6)        NOT NULL,
+    updated_at         TIMESTAMP(6)        NOT NULL,
+    deleted_at         TIMESTAMP(6)        NULL,
+    author_type        ENUM('AI','HUMAN')   NULL,
+    custom_author_name VARCHAR(50)         NULL,
+    vote_deadline_at   TIMESTAMP(6)        NULL,
+    answer_revealed_at TIMESTAMP(6)        NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE TABLE post_stats (
+    post_id          BIGINT NOT NULL,
+    like_count       BIGINT NOT NULL,
+    view_count       BIGINT NOT NULL,
+    reply_count      BIGINT NOT NULL,
+    ai_vote_count    BIGINT NOT NULL,
+    human_vote_count BIGINT NOT NULL,
+    total_vote_count BIGINT NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_stats_post FOREIGN KEY (post_id) REFERENCES post (id)
+);
+
+CREATE TABLE posts_files (
+    post_id BIGINT NOT NULL,
+    file_id BIGINT NOT NULL,
+    PRIMARY KEY (post_id, file_id),
+    CONSTRAINT fk_pf_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_pf_file FOREIGN KEY (file_id) REFERENCES file (id)
+);
+
+CREATE TABLE comments (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NULL,
+    post_id    BIGINT       NULL,
+    content    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES post (id)
+);
+
+CREATE TABLE likes (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_likes_user_post UNIQUE (user_id, post_id),
+    CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_likes_post FOREIGN KEY (post_id) REFERENCES post (id)
+);
+
+CREATE TABLE post_vote (
+    id         BIGINT              NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT              NOT NULL,
+    post_id    BIGINT              NOT NULL,
+    vote_type  ENUM('AI','HUMAN')   NOT NULL,
+    is_correct BOOLEAN             NOT NULL,
+    created_at TIMESTAMP(6)        NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT unique_user_post_vote UNIQUE (user_id, post_id),
+    CONSTRAINT fk_post_vote_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_post_vote_post FOREIGN KEY (post_id) REFERENCES post (id)
+);
+
+CREATE INDEX idx_post_vote_post_id ON post_vote (post_id);
+CREATE INDEX idx_post_vote_user_id ON post_vote (user_id);
+
+CREATE TABLE user_score (
+    user_id       BIGINT       NOT NULL,
+    vote_score    INT          NOT NULL,
+    total_votes   BIGINT       NOT NULL,
+    correct_votes BIGINT       NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_score_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE INDEX idx_user_score_user_id ON user_score (user_id);
+CREATE INDEX idx_user_score_score ON user_score (vote_score DESC);
@@ -0,0 +1,11 @@
+-- 피드 정렬(PostSortType)별 keyset 조회가 filesort 없이 인덱스 순서대로 읽히도록 한다
+CREATE INDEX idx_post_deleted_at_id ON post (deleted_at, id DESC);
+CREATE INDEX idx_post_stats_like_count ON post_stats (like_count DESC, post_id DESC);
+CREATE INDEX idx_post_stats_reply_count ON post_stats (reply_count DESC, post_id DESC);
+CREATE INDEX idx_post_stats_view_count ON post_stats (view_count DESC, post_id DESC);
+
+-- 랭킹 정렬이 post_stats 와 inner join 하므로 통계 row 가 없던 예전 게시글을 채운다
+INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+SELECT p.id, 0, 0, 0, 0, 0, 0
+FROM post p
+WHERE NOT EXISTS (SELECT 1 FROM post_stats s WHERE s.post_id = p.id);
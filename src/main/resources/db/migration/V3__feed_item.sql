@@ -0,0 +1,29 @@
+-- GET /api/posts 가 join 없이 읽는 비정규화 목록 테이블
+CREATE TABLE feed_item (
+    id                 BIGINT       NOT NULL,
+    title              VARCHAR(255) NULL,
+    content_preview    VARCHAR(300) NULL,
+    author_id          BIGINT       NOT NULL,
+    author_nickname    VARCHAR(50)  NULL,
+    custom_author_name VARCHAR(50)  NULL,
+    view_count         BIGINT       NOT NULL,
+    like_count         BIGINT       NOT NULL,
+    reply_count        BIGINT       NOT NULL,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_feed_item_like_count ON feed_item (like_count DESC, id DESC);
+CREATE INDEX idx_feed_item_reply_count ON feed_item (reply_count DESC, id DESC);
+CREATE INDEX idx_feed_item_view_count ON feed_item (view_count DESC, id DESC);
+CREATE INDEX idx_feed_item_author_id ON feed_item (author_id);
+
+INSERT INTO feed_item (id, title, content_preview, author_id, author_nickname, custom_author_name,
+                       view_count, like_count, reply_count, created_at, updated_at)
+SELECT p.id, p.title, SUBSTRING(p.content, 1, 300), u.id, u.nickname, p.custom_author_name,
+       s.view_count, s.like_count, s.reply_count, p.created_at, p.updated_at
+FROM post p
+JOIN user u ON u.id = p.user_id
+JOIN post_stats s ON s.post_id = p.id
+WHERE p.deleted_at IS NULL;
@@ -0,0 +1,5 @@
+-- 목록 응답의 hasMore 계산용 전체 본문 길이
+ALTER TABLE feed_item ADD COLUMN content_length INT NOT NULL DEFAULT 0;
+
+UPDATE feed_item
+SET content_length = COALESCE((SELECT CHAR_LENGTH(p.content) FROM post p WHERE p.id = feed_item.id), 0);
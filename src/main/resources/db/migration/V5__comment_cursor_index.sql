@@ -0,0 +1,2 @@
+-- 댓글 keyset 페이지: WHERE post_id = ? AND deleted_at IS NULL AND id < ? ORDER BY id DESC
+CREATE INDEX idx_comments_post_deleted_at_id ON comments (post_id, deleted_at, id DESC);
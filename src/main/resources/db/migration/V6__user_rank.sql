@@ -0,0 +1,13 @@
+-- user_score 로부터 주기적으로 계산해 두는 랭킹 스냅샷 (ranking.source=snapshot)
+-- rank 는 MySQL 8 예약어라 ranking 으로 둔다
+CREATE TABLE user_rank (
+    user_id       BIGINT       NOT NULL,
+    ranking       BIGINT       NOT NULL,
+    vote_score    INT          NOT NULL,
+    total_votes   BIGINT       NOT NULL,
+    correct_votes BIGINT       NOT NULL,
+    snapshot_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+CREATE UNIQUE INDEX uk_user_rank_ranking ON user_rank (ranking);
@@ -0,0 +1,2 @@
+-- VoteTallyReconciler 의 재계산 범위: WHERE created_at >= ?
+CREATE INDEX idx_post_vote_created_at ON post_vote (created_at);
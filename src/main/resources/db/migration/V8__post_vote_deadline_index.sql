@@ -0,0 +1,2 @@
+-- 정답 자동 공개: 다가오는 마감 구간 조회와 마감 지난 미공개 게시글 조회
+CREATE INDEX idx_post_vote_deadline_at ON post (vote_deadline_at);
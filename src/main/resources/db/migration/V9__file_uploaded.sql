@@ -0,0 +1,2 @@
+-- presigned URL 업로드: confirm 에서 S3 객체를 확인하기 전까지 FALSE (서버를 거친 업로드는 바로 TRUE)
+ALTER TABLE file ADD COLUMN is_uploaded BOOLEAN NOT NULL DEFAULT TRUE;
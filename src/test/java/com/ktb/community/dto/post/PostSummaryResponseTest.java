@@ -0,0 +1,71 @@
+package com.ktb.community.dto.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ktb.community.repository.projection.PostSummaryProjection;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSummaryResponseTest {
+
+    private static final int MAX_CONTENT_LENGTH = 20000;
+    private static final int PAGE_SIZE = 50;
+    private static final int PREVIEW_LENGTH = 200;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void from_whenContentTruncated_setsHasMore() {
+        PostSummaryResponse response = PostSummaryResponse.from(projection(1L, "a".repeat(PREVIEW_LENGTH), 500));
+
+        assertThat(response.hasMore()).isTrue();
+    }
+
+    @Test
+    void from_whenContentComplete_clearsHasMore() {
+        PostSummaryResponse response = PostSummaryResponse.from(projection(1L, "short", 5));
+
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    void from_whenTruncatedContentIsEmoji_setsHasMore() {
+        // 이모지 200개 = UTF-16 400 units, 전체 본문은 code point 300개
+        String content = "😀".repeat(PREVIEW_LENGTH);
+
+        PostSummaryResponse response = PostSummaryResponse.from(projection(1L, content, 300));
+
+        assertThat(response.hasMore()).isTrue();
+    }
+
+    // 최대 길이 본문 50건 기준 피드 한 페이지 JSON 크기 비교
+    @Test
+    void previewPage_isSmallerThanFullContentPage() throws Exception {
+        String fullContent = "가".repeat(MAX_CONTENT_LENGTH);
+        String preview = fullContent.substring(0, PREVIEW_LENGTH);
+
+        int fullBytes = pageBytes(fullContent);
+        int previewBytes = pageBytes(preview);
+
+        assertThat(fullBytes).isGreaterThan(1_000_000);
+        assertThat(previewBytes).isLessThan(60_000);
+    }
+
+    private int pageBytes(String content) throws Exception {
+        List<PostSummaryResponse> page = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(id -> PostSummaryResponse.from(projection(id, content, MAX_CONTENT_LENGTH)))
+                .toList();
+        return objectMapper.writeValueAsBytes(new PostCursorResponse(page, 50L, "token", true, null)).length;
+    }
+
+    private static PostSummaryProjection projection(Long id, String content, int contentLength) {
+        Instant now = Instant.now();
+        return new PostSummaryProjection(id, "title " + id, content, contentLength, 1L, "nick", null,
+                now, now, 0L, 0L, 0L);
+    }
+}
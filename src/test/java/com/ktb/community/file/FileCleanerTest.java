@@ -0,0 +1,116 @@
+package com.ktb.community.file;
+
+import com.ktb.community.entity.File;
+import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.projection.OrphanFile;
+import com.ktb.community.service.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FileCleanerTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private FileRepository fileRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileCleaner fileCleaner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fileCleaner = new FileCleaner(fileStorageService, fileRepository, transactionManager, meterRegistry, 2, 2);
+    }
+
+    @Test
+    void cleanUpOrphanedFiles_pagesByIdAndRestoresKeysS3Refused() {
+        List<OrphanFile> first = List.of(new OrphanFile(1L, "k1"), new OrphanFile(2L, "k2"));
+        List<OrphanFile> second = List.of(new OrphanFile(5L, "k5"));
+        when(fileRepository.findOrphans(any(Instant.class), eq(0L), any(Pageable.class))).thenReturn(first);
+        when(fileRepository.findOrphans(any(Instant.class), eq(2L), any(Pageable.class))).thenReturn(second);
+        when(fileRepository.findOrphansForUpdate(List.of(1L, 2L))).thenReturn(List.of(file(1L, "k1"), file(2L, "k2")));
+        when(fileRepository.findOrphansForUpdate(List.of(5L))).thenReturn(List.of(file(5L, "k5")));
+        when(fileStorageService.deleteAll(List.of("k1", "k1_thumbnail.jpg", "k1_avatar.jpg", "k2", "k2_thumbnail.jpg", "k2_avatar.jpg")))
+                .thenReturn(Set.of("k1", "k1_thumbnail.jpg", "k1_avatar.jpg", "k2_thumbnail.jpg"));
+        when(fileStorageService.deleteAll(List.of("k5", "k5_thumbnail.jpg", "k5_avatar.jpg"))).thenReturn(Set.of("k5"));
+
+        fileCleaner.cleanUpOrphanedFiles();
+
+        verify(fileRepository).markDeleted(eq(List.of(1L, 2L)), any(Instant.class));
+        verify(fileRepository).markDeleted(eq(List.of(5L)), any(Instant.class));
+        verify(fileRepository).restoreDeleted(List.of(2L));
+        assertThat(meterRegistry.counter("file.cleaner.purged").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("file.cleaner.failed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("file.cleaner.duration").count()).isEqualTo(1L);
+    }
+
+    @Test
+    void cleanUpOrphanedFiles_skipsFilesAttachedAfterListing() {
+        List<OrphanFile> chunk = List.of(new OrphanFile(1L, "k1"));
+        when(fileRepository.findOrphans(any(Instant.class), eq(0L), any(Pageable.class))).thenReturn(chunk);
+        when(fileRepository.findOrphansForUpdate(List.of(1L))).thenReturn(List.of());
+
+        fileCleaner.cleanUpOrphanedFiles();
+
+        verify(fileRepository, never()).markDeleted(anyList(), any());
+        verify(fileStorageService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void cleanUpOrphanedFiles_whenS3Fails_restoresClaimedRowsForNextRun() {
+        List<OrphanFile> chunk = List.of(new OrphanFile(1L, "k1"));
+        when(fileRepository.findOrphans(any(Instant.class), eq(0L), any(Pageable.class))).thenReturn(chunk);
+        when(fileRepository.findOrphansForUpdate(List.of(1L))).thenReturn(List.of(file(1L, "k1")));
+        when(fileStorageService.deleteAll(List.of("k1", "k1_thumbnail.jpg", "k1_avatar.jpg"))).thenThrow(new IllegalStateException("s3 down"));
+
+        fileCleaner.cleanUpOrphanedFiles();
+
+        verify(fileRepository).restoreDeleted(List.of(1L));
+        assertThat(meterRegistry.counter("file.cleaner.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void cleanUpOrphanedFiles_keepsObjectsStillReferencedByOtherRows() {
+        List<OrphanFile> chunk = List.of(new OrphanFile(1L, "shared"), new OrphanFile(2L, "k2"));
+        when(fileRepository.findOrphans(any(Instant.class), eq(0L), any(Pageable.class))).thenReturn(chunk);
+        when(fileRepository.findOrphansForUpdate(List.of(1L, 2L))).thenReturn(List.of(file(1L, "shared"), file(2L, "k2")));
+        when(fileRepository.findReferencedStorageKeys(Set.of("shared", "k2"), List.of(1L, 2L))).thenReturn(Set.of("shared"));
+        when(fileStorageService.deleteAll(List.of("k2", "k2_thumbnail.jpg", "k2_avatar.jpg")))
+                .thenReturn(Set.of("k2", "k2_thumbnail.jpg", "k2_avatar.jpg"));
+
+        fileCleaner.cleanUpOrphanedFiles();
+
+        verify(fileRepository, never()).restoreDeleted(anyList());
+        assertThat(meterRegistry.counter("file.cleaner.purged").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("file.cleaner.failed").count()).isZero();
+    }
+
+    private static File file(Long id, String storageKey) {
+        File file = File.pending("a.png", storageKey, "url", 1);
+        ReflectionTestUtils.setField(file, "id", id);
+        return file;
+    }
+}
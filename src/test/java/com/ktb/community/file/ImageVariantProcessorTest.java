@@ -0,0 +1,148 @@
+package com.ktb.community.file;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantProcessorTest {
+
+    @Mock
+    private AmazonS3Client s3Client;
+    @Mock
+    private FileRepository fileRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageVariantProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new ImageVariantProcessor(s3Client, fileRepository, postRepository, userRepository, cacheManager, transactionManager, "test-bucket", 1, 1, 1_000_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.destroy();
+    }
+
+    @Test
+    void process_uploadsJpegVariantsAndRecordsUrls() throws IOException {
+        when(s3Client.getObject("test-bucket", "uploads/x")).thenReturn(s3Object(png(1200, 800)));
+
+        processor.process(1L, "uploads/x", "https://cdn/uploads/x");
+
+        ArgumentCaptor<InputStream> thumbnail = ArgumentCaptor.forClass(InputStream.class);
+        ArgumentCaptor<ObjectMetadata> metadata = ArgumentCaptor.forClass(ObjectMetadata.class);
+        verify(s3Client).putObject(eq("test-bucket"), eq("uploads/x_thumbnail.jpg"), thumbnail.capture(), metadata.capture());
+        assertThat(metadata.getValue().getContentType()).isEqualTo("image/jpeg");
+        BufferedImage thumbnailImage = ImageIO.read(thumbnail.getValue());
+        assertThat(thumbnailImage.getWidth()).isEqualTo(640);
+        assertThat(thumbnailImage.getHeight()).isEqualTo(427);
+
+        ArgumentCaptor<InputStream> avatar = ArgumentCaptor.forClass(InputStream.class);
+        verify(s3Client).putObject(eq("test-bucket"), eq("uploads/x_avatar.jpg"), avatar.capture(), any(ObjectMetadata.class));
+        BufferedImage avatarImage = ImageIO.read(avatar.getValue());
+        assertThat(avatarImage.getWidth()).isEqualTo(160);
+        assertThat(avatarImage.getHeight()).isEqualTo(160);
+
+        verify(fileRepository).updateVariantUrls(1L,
+                "https://cdn/uploads/x_thumbnail.jpg", "https://cdn/uploads/x_avatar.jpg");
+    }
+
+    @Test
+    void process_evictsSnapshotsShowingTheFile() throws IOException {
+        Cache postDetail = mock(Cache.class);
+        Cache userSnapshot = mock(Cache.class);
+        when(s3Client.getObject("test-bucket", "uploads/x")).thenReturn(s3Object(png(300, 200)));
+        when(cacheManager.getCache(CacheConfig.POST_DETAIL)).thenReturn(postDetail);
+        when(cacheManager.getCache(CacheConfig.USER_SNAPSHOT)).thenReturn(userSnapshot);
+        when(postRepository.findIdsByAttachedFileId(1L)).thenReturn(List.of(10L));
+        when(postRepository.findIdsByAuthorProfileImageId(1L)).thenReturn(List.of(20L, 21L));
+        when(userRepository.findIdsByProfileImageId(1L)).thenReturn(List.of(7L));
+
+        processor.process(1L, "uploads/x", "https://cdn/uploads/x");
+
+        verify(postDetail).evict(10L);
+        verify(postDetail).evict(20L);
+        verify(postDetail).evict(21L);
+        verify(userSnapshot).evict(7L);
+    }
+
+    @Test
+    void resize_neverUpscalesSmallImages() {
+        BufferedImage resized = ImageVariantProcessor.resize(new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB), ImageVariant.THUMBNAIL);
+
+        assertThat(resized.getWidth()).isEqualTo(100);
+        assertThat(resized.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void process_whenTooManyPixels_skipsWithoutUploading() throws IOException {
+        when(s3Client.getObject("test-bucket", "uploads/x")).thenReturn(s3Object(png(2000, 1000)));
+
+        processor.process(1L, "uploads/x", "https://cdn/uploads/x");
+
+        verify(s3Client, never()).putObject(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+        verify(fileRepository, never()).updateVariantUrls(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void process_whenNotAnImage_skipsWithoutUploading() {
+        when(s3Client.getObject("test-bucket", "uploads/x")).thenReturn(s3Object("not an image".getBytes()));
+
+        processor.process(1L, "uploads/x", "https://cdn/uploads/x");
+
+        verify(fileRepository, never()).updateVariantUrls(anyLong(), anyString(), anyString());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static S3Object s3Object(byte[] content) {
+        S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(content));
+        return object;
+    }
+}
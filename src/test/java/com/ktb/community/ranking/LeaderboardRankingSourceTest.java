@@ -0,0 +1,71 @@
+package com.ktb.community.ranking;
+
+import com.ktb.community.dto.vote.UserRankingResponse;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.LeaderboardRow;
+import com.ktb.community.service.UserSnapshotService;
+import com.ktb.community.user.UserSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardRankingSourceTest {
+
+    @Mock
+    private UserScoreRepository userScoreRepository;
+    @Mock
+    private UserSnapshotService userSnapshotService;
+
+    @InjectMocks
+    private LeaderboardRankingSource rankingSource;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(userSnapshotService.getSnapshot(anyLong()))
+                .thenAnswer(invocation -> new UserSnapshot(invocation.getArgument(0), "e", "n", null, false, true, false));
+    }
+
+    @Test
+    void recordVote_whenAlreadyInSnapshot_isIgnored() {
+        when(userScoreRepository.findAllLeaderboardRows()).thenReturn(List.of(new LeaderboardRow(1L, 2, 2, 2, 10L)));
+        rankingSource.reload();
+
+        rankingSource.recordVote(10L, 1L, true);
+        rankingSource.recordVote(11L, 1L, true);
+
+        assertThat(voteScoreOf(1L)).isEqualTo(3);
+    }
+
+    @Test
+    void reload_replaysVotesRecordedWhileReading() {
+        when(userScoreRepository.findAllLeaderboardRows()).thenAnswer(invocation -> {
+            // 스냅샷에 포함된 투표(5)와 조회 이후 커밋된 투표(6)가 조회 도중 들어온다
+            rankingSource.recordVote(5L, 1L, true);
+            rankingSource.recordVote(6L, 1L, true);
+            return List.of(new LeaderboardRow(1L, 1, 1, 1, 5L));
+        });
+
+        rankingSource.reload();
+
+        assertThat(voteScoreOf(1L)).isEqualTo(2);
+    }
+
+    private int voteScoreOf(Long userId) {
+        return rankingSource.getTopRankings(10, null).orElseThrow().getRankings().stream()
+                .filter(ranking -> ranking.getUserId().equals(userId))
+                .mapToInt(UserRankingResponse::getVoteScore)
+                .findFirst()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ktb.community.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    @Test
+    void top_ordersByScoreThenCorrectVotesThenUserId() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.replaceAll(List.of(
+                new LeaderboardEntry(1L, 3, 10, 3),
+                new LeaderboardEntry(2L, 5, 6, 5),
+                new LeaderboardEntry(3L, 3, 4, 4),
+                new LeaderboardEntry(4L, 3, 5, 4),
+                new LeaderboardEntry(5L, 0, 7, 0)
+        ));
+
+        assertThat(leaderboard.top(10)).extracting(LeaderboardEntry::userId).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(leaderboard.rankedCount()).isEqualTo(4);
+        assertThat(leaderboard.rankOf(4L)).isEqualTo(3);
+        assertThat(leaderboard.rankOf(5L)).isZero();
+    }
+
+    @Test
+    void recordVote_movesUserAndAddsNewlyRankedUser() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.replaceAll(List.of(
+                new LeaderboardEntry(1L, 2, 2, 2),
+                new LeaderboardEntry(2L, 1, 1, 1)
+        ));
+
+        leaderboard.recordVote(2L, true);
+        leaderboard.recordVote(2L, true);
+        leaderboard.recordVote(3L, false);
+        leaderboard.recordVote(3L, true);
+
+        assertThat(leaderboard.top(10)).extracting(LeaderboardEntry::userId).containsExactly(2L, 1L, 3L);
+        assertThat(leaderboard.find(3L)).contains(new LeaderboardEntry(3L, 1, 2, 1));
+        assertThat(leaderboard.rankOf(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void randomVotes_matchSortedSnapshot() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.replaceAll(List.of());
+        Map<Long, LeaderboardEntry> expected = new HashMap<>();
+        Random random = new Random(1);
+
+        for (int i = 0; i < 5_000; i++) {
+            long userId = random.nextInt(300);
+            boolean correct = random.nextBoolean();
+            leaderboard.recordVote(userId, correct);
+            expected.merge(userId, LeaderboardEntry.empty(userId).plusVote(correct),
+                    (before, ignored) -> before.plusVote(correct));
+        }
+
+        List<LeaderboardEntry> sorted = new ArrayList<>(expected.values().stream().filter(LeaderboardEntry::isRanked).toList());
+        sorted.sort(LeaderboardEntry.RANKING_ORDER);
+        assertThat(leaderboard.top(sorted.size())).containsExactlyElementsOf(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(leaderboard.rankOf(sorted.get(i).userId())).isEqualTo(i + 1);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.entity.Comment;
+import com.ktb.community.support.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertPost;
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class CommentCursorRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Long postId;
+
+    @BeforeEach
+    void seed() {
+        Timestamp now = Timestamp.from(Instant.now());
+        Long userId = insertUser(jdbcTemplate);
+        postId = insertPost(jdbcTemplate, userId);
+
+        // 25건 중 5의 배수 번째는 삭제된 댓글
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            comments.add(new Object[]{userId, postId, "comment " + i, now, now, i % 5 == 0 ? now : null});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO comments (user_id, post_id, content, created_at, updated_at, deleted_at)
+                VALUES (?, ?, ?, ?, ?, ?)""", comments);
+    }
+
+    @Test
+    void findAllByCursor_walksLiveCommentsNewestFirstWithoutGaps() {
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        CursorPage<Comment> page;
+        do {
+            page = commentRepository.findAllByCursor(postId, cursor, 7);
+            page.getContents().forEach(comment -> seen.add(comment.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        assertThat(seen).hasSize(20).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void commentCursorQuery_readsPostIndex() {
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT c.id FROM comments c
+                WHERE c.post_id = %d AND c.deleted_at IS NULL AND c.id < 100
+                ORDER BY c.id DESC LIMIT 11""".formatted(postId), String.class));
+
+        assertThat(plan).containsIgnoringCase("idx_comments_post_deleted_at_id");
+    }
+}
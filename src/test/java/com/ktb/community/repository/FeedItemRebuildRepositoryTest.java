@@ -0,0 +1,77 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.entity.FeedItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertPost;
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class FeedItemRebuildRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FeedItemRepository feedItemRepository;
+
+    private String nickname;
+    private Long livePostId;
+    private Long deletedPostId;
+
+    @BeforeEach
+    void seed() {
+        nickname = UUID.randomUUID().toString().substring(0, 20);
+        Long userId = insertUser(jdbcTemplate, nickname);
+
+        livePostId = insertPostWithStats(userId, "x".repeat(FeedItem.PREVIEW_LENGTH + 100), null);
+        deletedPostId = insertPostWithStats(userId, "gone", Instant.now());
+    }
+
+    @Test
+    void rebuildRange_copiesLivePostsWithTruncatedPreview() {
+        int inserted = feedItemRepository.rebuildRange(livePostId - 1, deletedPostId);
+
+        assertThat(inserted).isEqualTo(1);
+        FeedItem item = feedItemRepository.findById(livePostId).orElseThrow();
+        assertThat(item.getAuthorNickname()).isEqualTo(nickname);
+        assertThat(item.getContentPreview()).hasSize(FeedItem.PREVIEW_LENGTH);
+        assertThat(item.getContentLength()).isEqualTo(FeedItem.PREVIEW_LENGTH + 100);
+        assertThat(item.getLikeCount()).isEqualTo(3L);
+        assertThat(feedItemRepository.findById(deletedPostId)).isEmpty();
+    }
+
+    @Test
+    void rebuildRange_dropsPostsDeletedSinceLastBuild() {
+        feedItemRepository.rebuildRange(livePostId - 1, deletedPostId);
+        jdbcTemplate.update("UPDATE post SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", livePostId);
+
+        feedItemRepository.rebuildRange(livePostId - 1, deletedPostId);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM feed_item WHERE id = ?", Long.class, livePostId)).isZero();
+    }
+
+    private Long insertPostWithStats(Long userId, String content, Instant deletedAt) {
+        Long postId = insertPost(jdbcTemplate, userId, content, deletedAt);
+        jdbcTemplate.update("""
+                INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+                VALUES (?, 3, 0, 0, 0, 0, 0)""", postId);
+        return postId;
+    }
+}
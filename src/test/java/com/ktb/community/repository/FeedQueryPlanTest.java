@@ -0,0 +1,110 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.support.PostCursor;
+import com.ktb.community.support.PostSortType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertPost;
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 마이그레이션으로 만든 스키마에서 피드 정렬별 실행 계획이 full scan 을 타지 않는지 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ktb.community.repository.FeedQueryPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class FeedQueryPlanTest {
+
+    private static final int SEED_POSTS = 300;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FeedItemRepository feedItemRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void seed() {
+        Long userId = insertUser(jdbcTemplate);
+        Instant now = Instant.now();
+        for (int i = 0; i < SEED_POSTS; i++) {
+            insertPost(jdbcTemplate, userId, "content", i % 10 == 0 ? now : null);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO post_stats (post_id, like_count, view_count, reply_count, ai_vote_count, human_vote_count, total_vote_count)
+                SELECT p.id, MOD(p.id, 17), MOD(p.id, 31), MOD(p.id, 7), 0, 0, 0
+                FROM post p
+                WHERE NOT EXISTS (SELECT 1 FROM post_stats s WHERE s.post_id = p.id)""");
+        jdbcTemplate.update("DELETE FROM feed_item");
+        feedItemRepository.rebuildRange(0L, feedItemRepository.findMaxPostId());
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @ParameterizedTest
+    @EnumSource(PostSortType.class)
+    void feedQuery_doesNotFullScan(PostSortType sortType) {
+        String plan = explainFeedQuery(sortType);
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PostSortType.class, names = {"LIKES", "COMMENTS", "VIEWS"})
+    void rankedFeedQuery_readsSortIndex(PostSortType sortType) {
+        String plan = explainFeedQuery(sortType);
+
+        assertThat(plan).containsIgnoringCase(sortIndex(sortType));
+    }
+
+    // PostQueryRepositoryImpl.findAllByCursor 가 실제로 만든 SQL(두 번째 페이지 기준)을 잡아서 EXPLAIN
+    // 바인딩 값은 실행 계획에 영향이 없으므로 모두 같은 숫자로 채운다
+    private String explainFeedQuery(PostSortType sortType) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        postRepository.findAllByCursor(PostCursor.of(sortType, 5L, 200L), 10, sortType);
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase().contains("from feed_item"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(args, 5L);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private static String sortIndex(PostSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> "primary_key";
+            case LIKES -> "idx_feed_item_like_count";
+            case COMMENTS -> "idx_feed_item_reply_count";
+            case VIEWS -> "idx_feed_item_view_count";
+        };
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
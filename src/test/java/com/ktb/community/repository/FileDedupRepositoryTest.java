@@ -0,0 +1,77 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class FileDedupRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FileRepository fileRepository;
+
+    private String hash;
+    private String sharedKey;
+
+    @BeforeEach
+    void setUp() {
+        hash = UUID.randomUUID().toString().replace("-", "").repeat(2);
+        sharedKey = "uploads/" + UUID.randomUUID();
+    }
+
+    @Test
+    void findFirstByContentHash_returnsOnlyCommittedLiveFile() {
+        insertFile(sharedKey, hash, false, null);
+        Long committedId = insertFile(sharedKey, hash, true, null);
+        insertFile(sharedKey, hash, true, Instant.now());
+
+        assertThat(fileRepository.findFirstByContentHashAndCommittedTrueAndDeletedAtIsNullOrderByIdAsc(hash))
+                .get()
+                .extracting("id")
+                .isEqualTo(committedId);
+    }
+
+    @Test
+    void findReferencedStorageKeys_ignoresExcludedAndDeletedRows() {
+        Long orphanId = insertFile(sharedKey, hash, false, null);
+        insertFile(sharedKey, hash, true, null);
+        String soleKey = "uploads/" + UUID.randomUUID();
+        Long soleId = insertFile(soleKey, null, false, null);
+        insertFile(soleKey, null, true, Instant.now());
+
+        Set<String> referenced = fileRepository.findReferencedStorageKeys(Set.of(sharedKey, soleKey), List.of(orphanId, soleId));
+
+        assertThat(referenced).containsExactly(sharedKey);
+    }
+
+    private Long insertFile(String storageKey, String contentHash, boolean committed, Instant deletedAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                        INSERT INTO file (original_file_name, storage_key, file_url, file_size, content_hash,
+                                          is_committed, is_uploaded, created_at, updated_at, deleted_at)
+                        VALUES ('a.png', ?, ?, 3, ?, ?, TRUE, ?, ?, ?)""",
+                storageKey, "https://bucket/" + storageKey, contentHash, committed, now, now,
+                deletedAt == null ? null : Timestamp.from(deletedAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM file", Long.class);
+    }
+}
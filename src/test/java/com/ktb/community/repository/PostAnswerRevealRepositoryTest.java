@@ -0,0 +1,93 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.repository.projection.VoteDeadline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static com.ktb.community.repository.RepositoryTestFixtures.insertVotePost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class PostAnswerRevealRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PostRepository postRepository;
+
+    private Long userId;
+    private Instant now;
+
+    @BeforeEach
+    void seed() {
+        now = Instant.now();
+        userId = insertUser(jdbcTemplate);
+    }
+
+    @Test
+    void findExpired_returnsUnrevealedIdsInDeadlineOrder() {
+        Long later = insertPost(now.minus(Duration.ofMinutes(1)), null, null);
+        Long earlier = insertPost(now.minus(Duration.ofHours(1)), null, null);
+        insertPost(now.minus(Duration.ofHours(2)), now.minus(Duration.ofHours(1)), null);
+        insertPost(now.minus(Duration.ofHours(2)), null, now);
+        insertPost(now.plus(Duration.ofHours(1)), null, null);
+
+        List<Long> expired = postRepository.findByVoteDeadlineAtBeforeAndAnswerRevealedAtIsNull(now, PageRequest.of(0, 10));
+
+        assertThat(expired).containsExactly(earlier, later);
+        assertThat(postRepository.findByVoteDeadlineAtBeforeAndAnswerRevealedAtIsNull(now, PageRequest.of(0, 1)))
+                .containsExactly(earlier);
+    }
+
+    @Test
+    void findUpcomingVoteDeadlines_returnsOnlyWindow() {
+        Long inWindow = insertPost(now.plus(Duration.ofHours(1)), null, null);
+        insertPost(now.plus(Duration.ofHours(30)), null, null);
+        insertPost(now.minus(Duration.ofHours(1)), null, null);
+
+        List<VoteDeadline> upcoming = postRepository.findUpcomingVoteDeadlines(now, now.plus(Duration.ofHours(24)));
+
+        assertThat(upcoming).extracting(VoteDeadline::postId).containsExactly(inWindow);
+    }
+
+    @Test
+    void revealAnswers_updatesOnlyExpiredUnrevealedPosts() {
+        Long expired = insertPost(now.minus(Duration.ofMinutes(1)), null, null);
+        Long notYet = insertPost(now.plus(Duration.ofHours(1)), null, null);
+        Long deleted = insertPost(now.minus(Duration.ofMinutes(1)), null, now);
+
+        int updated = postRepository.revealAnswers(List.of(expired, notYet, deleted), now);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(revealedAt(expired)).isNotNull();
+        assertThat(revealedAt(notYet)).isNull();
+        assertThat(revealedAt(deleted)).isNull();
+        assertThat(postRepository.revealAnswers(List.of(expired), now)).isZero();
+    }
+
+    private Long insertPost(Instant deadlineAt, Instant revealedAt, Instant deletedAt) {
+        return insertVotePost(jdbcTemplate, userId, "AI", deadlineAt, revealedAt, deletedAt);
+    }
+
+    private Timestamp revealedAt(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT answer_revealed_at FROM post WHERE id = ?", Timestamp.class, postId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static com.ktb.community.repository.RepositoryTestFixtures.insertVotePost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class PostLikeWriteRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    private Long userId;
+    private Long postId;
+
+    @BeforeEach
+    void seed() {
+        userId = insertUser(jdbcTemplate);
+        postId = insertVotePost(jdbcTemplate, userId, "HUMAN");
+    }
+
+    @Test
+    void insertIfAbsent_secondInsertAffectsNoRows() {
+        assertThat(postLikeRepository.insertIfAbsent(userId, postId)).isEqualTo(1);
+        assertThat(postLikeRepository.insertIfAbsent(userId, postId)).isZero();
+
+        assertThat(postLikeRepository.countByPostId(postId)).isEqualTo(1L);
+    }
+
+    @Test
+    void deleteIfPresent_secondDeleteAffectsNoRows() {
+        postLikeRepository.insertIfAbsent(userId, postId);
+
+        assertThat(postLikeRepository.deleteIfPresent(userId, postId)).isEqualTo(1);
+        assertThat(postLikeRepository.deleteIfPresent(userId, postId)).isZero();
+
+        assertThat(postLikeRepository.countByPostId(postId)).isZero();
+    }
+}
@@ -0,0 +1,206 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.PostStats;
+import com.ktb.community.entity.PostVote;
+import com.ktb.community.entity.User;
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostStatsCounterRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostVoteRepository postVoteRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = new TransactionTemplate(transactionManager).execute(status -> {
+            String suffix = UUID.randomUUID().toString();
+            User user = userRepository.save(User.create(suffix + "@example.com", "pw", suffix, null, false));
+            Post post = postRepository.save(Post.create(user, "title", "content"));
+            PostStats stats = PostStats.initialize(post);
+            post.attachStats(stats);
+            postStatsRepository.save(stats);
+            return post.getId();
+        });
+    }
+
+    @Test
+    void concurrentIncrements_areNotLost() throws Exception {
+        hammer(() -> {
+            postStatsRepository.incrementLikeCount(postId);
+            postStatsRepository.incrementReplyCount(postId);
+            postStatsRepository.incrementAiVoteCount(postId);
+            postStatsRepository.incrementHumanVoteCount(postId);
+        });
+
+        long expected = (long) THREADS * ITERATIONS;
+        assertThat(postStatsRepository.findLikeCount(postId)).isEqualTo(expected);
+        assertThat(postStatsRepository.findReplyCount(postId)).isEqualTo(expected);
+        PostVoteCounts voteCounts = postStatsRepository.findVoteCounts(postId);
+        assertThat(voteCounts.aiVoteCount()).isEqualTo(expected);
+        assertThat(voteCounts.humanVoteCount()).isEqualTo(expected);
+        assertThat(voteCounts.totalVoteCount()).isEqualTo(expected * 2);
+    }
+
+    @Test
+    void concurrentVoteUpserts_areNotLost() throws Exception {
+        hammer(() -> {
+            postStatsRepository.addVoteCounts(Map.of(postId, PostVoteCounts.of(VoteType.AI)));
+            postStatsRepository.addVoteCounts(Map.of(postId, PostVoteCounts.of(VoteType.HUMAN)));
+        });
+
+        long expected = (long) THREADS * ITERATIONS;
+        PostVoteCounts voteCounts = postStatsRepository.findVoteCounts(postId);
+        assertThat(voteCounts.aiVoteCount()).isEqualTo(expected);
+        assertThat(voteCounts.humanVoteCount()).isEqualTo(expected);
+        assertThat(voteCounts.totalVoteCount()).isEqualTo(expected * 2);
+    }
+
+    @Test
+    void addVoteCounts_whenStatsRowMissing_createsIt() {
+        Long postWithoutStats = new TransactionTemplate(transactionManager).execute(status -> {
+            String suffix = UUID.randomUUID().toString();
+            User user = userRepository.save(User.create(suffix + "@example.com", "pw", suffix, null, false));
+            return postRepository.save(Post.create(user, "title", "content")).getId();
+        });
+
+        postStatsRepository.addVoteCounts(Map.of(postWithoutStats, new PostVoteCounts(0L, 2L, 2L)));
+
+        PostVoteCounts voteCounts = postStatsRepository.findVoteCounts(postWithoutStats);
+        assertThat(voteCounts.aiVoteCount()).isZero();
+        assertThat(voteCounts.humanVoteCount()).isEqualTo(2L);
+        assertThat(voteCounts.totalVoteCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void reconcileVoteCounts_recomputesFromPostVotes() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            String suffix = UUID.randomUUID().toString();
+            User voter = userRepository.save(User.create(suffix + "@example.com", "pw", suffix, null, false));
+            postVoteRepository.save(PostVote.of(voter, postRepository.getReferenceById(postId), VoteType.AI, false));
+        });
+        // 큐 유실로 반영되지 못한 상태를 흉내
+        postStatsRepository.addVoteCounts(Map.of(postId, new PostVoteCounts(0L, 5L, 5L)));
+
+        postStatsRepository.reconcileVoteCounts(Instant.EPOCH, Long.MAX_VALUE);
+
+        PostVoteCounts voteCounts = postStatsRepository.findVoteCounts(postId);
+        assertThat(voteCounts).isEqualTo(new PostVoteCounts(1L, 0L, 1L));
+    }
+
+    @Test
+    void reconcileVoteCounts_skipsVotesAboveWatermark() {
+        Long throughVoteId = new TransactionTemplate(transactionManager).execute(status -> {
+            String suffix = UUID.randomUUID().toString();
+            User voter = userRepository.save(User.create(suffix + "@example.com", "pw", suffix, null, false));
+            return postVoteRepository.save(PostVote.of(voter, postRepository.getReferenceById(postId), VoteType.AI, false)).getId();
+        });
+        // watermark 이후에 커밋된 투표는 버퍼가 반영하므로 재계산에서 세지 않는다
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            String suffix = UUID.randomUUID().toString();
+            User voter = userRepository.save(User.create(suffix + "@example.com", "pw", suffix, null, false));
+            postVoteRepository.save(PostVote.of(voter, postRepository.getReferenceById(postId), VoteType.HUMAN, false));
+        });
+
+        postStatsRepository.reconcileVoteCounts(Instant.EPOCH, throughVoteId);
+
+        PostVoteCounts voteCounts = postStatsRepository.findVoteCounts(postId);
+        assertThat(voteCounts).isEqualTo(new PostVoteCounts(1L, 0L, 1L));
+    }
+
+    @Test
+    void concurrentDecrements_stopAtZero() throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            postStatsRepository.incrementLikeCount(postId);
+        }
+
+        hammer(() -> postStatsRepository.decrementLikeCount(postId));
+
+        assertThat(postStatsRepository.findLikeCount(postId)).isZero();
+    }
+
+    @Test
+    void addViewCounts_appliesBatchedDeltas() {
+        postStatsRepository.addViewCounts(Map.of(postId, 7L));
+        postStatsRepository.addViewCounts(Map.of(postId, 3L));
+
+        PostStats stats = postStatsRepository.findByPostId(postId).orElseThrow();
+        assertThat(stats.getViewCount()).isEqualTo(10L);
+    }
+
+    @Test
+    void updates_whenStatsRowMissing_reportNoAffectedRows() {
+        assertThat(postStatsRepository.incrementLikeCount(-1L)).isZero();
+        assertThat(postStatsRepository.findLikeCount(-1L)).isZero();
+    }
+
+    private void hammer(Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                Callable<Void> task = () -> {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        action.run();
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ktb.community.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+// 레포지토리 테스트의 user/post seed, 스키마가 바뀌면 여기만 고친다
+final class RepositoryTestFixtures {
+
+    private RepositoryTestFixtures() {
+    }
+
+    // 테스트끼리 겹치지 않는 닉네임의 활성 사용자
+    static Long insertUser(JdbcTemplate jdbcTemplate) {
+        return insertUser(jdbcTemplate, UUID.randomUUID().toString().substring(0, 20));
+    }
+
+    static Long insertUser(JdbcTemplate jdbcTemplate, String nickname) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO user (email, password, nickname, is_active, is_admin, is_deleted, created_at, updated_at)
+                VALUES (?, 'pw', ?, TRUE, FALSE, FALSE, ?, ?)""", nickname + "@example.com", nickname, now, now);
+        return jdbcTemplate.queryForObject("SELECT id FROM user WHERE nickname = ?", Long.class, nickname);
+    }
+
+    static Long insertPost(JdbcTemplate jdbcTemplate, Long userId) {
+        return insertPost(jdbcTemplate, userId, "content", null);
+    }
+
+    static Long insertPost(JdbcTemplate jdbcTemplate, Long userId, String content, Instant deletedAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO post (user_id, title, content, created_at, updated_at, deleted_at)
+                VALUES (?, 'title', ?, ?, ?, ?)""", userId, content, now, now, timestamp(deletedAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+    }
+
+    // 작성자 유형(AI/HUMAN)이 있어 투표할 수 있는 게시글
+    static Long insertVotePost(JdbcTemplate jdbcTemplate, Long userId, String authorType) {
+        return insertVotePost(jdbcTemplate, userId, authorType, null, null, null);
+    }
+
+    static Long insertVotePost(JdbcTemplate jdbcTemplate, Long userId, String authorType,
+                               Instant voteDeadlineAt, Instant answerRevealedAt, Instant deletedAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO post (user_id, title, content, created_at, updated_at, author_type,
+                                  vote_deadline_at, answer_revealed_at, deleted_at)
+                VALUES (?, 'title', 'content', ?, ?, ?, ?, ?, ?)""",
+                userId, now, now, authorType, timestamp(voteDeadlineAt), timestamp(answerRevealedAt), timestamp(deletedAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.entity.UserRank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class UserRankRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRankRepository userRankRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        // (voteScore, correctVotes): 기대 순위는 2 -> 0 -> 1, 3 은 점수가 없어 제외
+        insertUserWithScore(3, 4);
+        insertUserWithScore(3, 3);
+        insertUserWithScore(5, 5);
+        insertUserWithScore(0, 0);
+    }
+
+    @Test
+    void materialize_ranksInFindTopRankingsOrder() {
+        Instant snapshotAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        int ranked = userRankRepository.materialize(snapshotAt);
+
+        assertThat(ranked).isEqualTo(3);
+        assertThat(userRankRepository.findByRankingLessThanEqualOrderByRankingAsc(10))
+                .extracting(UserRank::getUserId)
+                .containsExactly(userIds.get(2), userIds.get(0), userIds.get(1));
+        assertThat(userRankRepository.findById(userIds.get(1))).get()
+                .extracting(UserRank::getRanking).isEqualTo(3L);
+        assertThat(userRankRepository.findById(userIds.get(3))).isEmpty();
+        UserRank last = userRankRepository.findFirstByOrderByRankingDesc().orElseThrow();
+        assertThat(last.getRanking()).isEqualTo(3L);
+        assertThat(last.getSnapshotAt()).isEqualTo(snapshotAt);
+    }
+
+    @Test
+    void materialize_replacesPreviousSnapshot() {
+        userRankRepository.materialize(Instant.now());
+        jdbcTemplate.update("UPDATE user_score SET vote_score = 9, correct_votes = 9 WHERE user_id = ?", userIds.get(1));
+
+        userRankRepository.materialize(Instant.now());
+
+        assertThat(userRankRepository.findByRankingLessThanEqualOrderByRankingAsc(1))
+                .extracting(UserRank::getUserId)
+                .containsExactly(userIds.get(1));
+        assertThat(userRankRepository.count()).isEqualTo(3);
+    }
+
+    private void insertUserWithScore(int voteScore, long correctVotes) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Long userId = insertUser(jdbcTemplate);
+        jdbcTemplate.update("""
+                INSERT INTO user_score (user_id, vote_score, total_votes, correct_votes, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)""", userId, voteScore, correctVotes + 2, correctVotes, now, now);
+        userIds.add(userId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.entity.UserScore;
+import com.ktb.community.repository.projection.VoteScoreDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
+import static com.ktb.community.repository.RepositoryTestFixtures.insertUser;
+import static com.ktb.community.repository.RepositoryTestFixtures.insertVotePost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class UserScoreCounterRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserScoreRepository userScoreRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void seed() {
+        userId = insertUser(jdbcTemplate);
+    }
+
+    @Test
+    void addVoteScores_createsRowThenAccumulates() {
+        userScoreRepository.addVoteScores(Map.of(userId, VoteScoreDelta.of(7L, false)));
+        userScoreRepository.addVoteScores(Map.of(userId, new VoteScoreDelta(2L, 2L, 5L)));
+
+        UserScore score = userScoreRepository.findByUserId(userId).orElseThrow();
+        assertThat(score.getVoteScore()).isEqualTo(2);
+        assertThat(score.getCorrectVotes()).isEqualTo(2L);
+        assertThat(score.getTotalVotes()).isEqualTo(3L);
+        assertThat(score.getLastVoteId()).isEqualTo(7L);
+        assertThat(userScoreRepository.findVoteScore(userId)).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileScores_recomputesFromPostVotes() {
+        Timestamp now = Timestamp.from(Instant.now());
+        Long postId = insertVotePost(jdbcTemplate, userId, "AI");
+        jdbcTemplate.update("""
+                INSERT INTO post_vote (user_id, post_id, vote_type, is_correct, created_at)
+                VALUES (?, ?, 'AI', TRUE, ?)""", userId, postId, now);
+
+        Long voteId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post_vote", Long.class);
+
+        userScoreRepository.reconcileScores(Instant.EPOCH, Long.MAX_VALUE);
+
+        UserScore score = userScoreRepository.findByUserId(userId).orElseThrow();
+        assertThat(score.getVoteScore()).isEqualTo(1);
+        assertThat(score.getTotalVotes()).isEqualTo(1L);
+        assertThat(score.getLastVoteId()).isEqualTo(voteId);
+    }
+
+    @Test
+    void findVoteScore_whenNoRow_returnsZero() {
+        assertThat(userScoreRepository.findVoteScore(userId)).isZero();
+    }
+}
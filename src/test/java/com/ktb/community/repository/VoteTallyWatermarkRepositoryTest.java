@@ -0,0 +1,38 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.AuditingConfig;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.repository.projection.VoteTallyWatermark;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AuditingConfig.class})
+class VoteTallyWatermarkRepositoryTest {
+
+    @Autowired
+    private PostVoteRepository postVoteRepository;
+
+    @Test
+    void advanceWatermark_neverMovesVoteIdBackwards() {
+        Instant reconciledAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        postVoteRepository.advanceWatermark(100L, reconciledAt);
+        postVoteRepository.advanceWatermark(50L, reconciledAt.plusSeconds(60));
+
+        VoteTallyWatermark watermark = postVoteRepository.lockWatermark();
+
+        assertThat(watermark.reconciledThroughVoteId()).isEqualTo(100L);
+        assertThat(watermark.reconciledAt()).isEqualTo(reconciledAt.plusSeconds(60));
+    }
+}
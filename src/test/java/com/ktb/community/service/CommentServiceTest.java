@@ -4,6 +4,7 @@ import com.ktb.community.entity.Comment;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.User;
 import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.support.CursorPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +39,8 @@ class CommentServiceTest {
     private OwnershipVerifier ownershipVerifier;
     @Mock
     private PostStatsService postStatsService;
+    @Mock
+    private PostDetailService postDetailService;
 
     @InjectMocks
     private CommentService commentService;
@@ -91,6 +95,33 @@ class CommentServiceTest {
         assertThat(result.getContent().getFirst().getId()).isEqualTo(1L);
     }
 
+    @Test
+    void getCommentsByCursor_usesReplyCountInsteadOfCounting() {
+        Comment comment = Comment.create(author, post, "content");
+        ReflectionTestUtils.setField(comment, "id", 7L);
+        when(commentRepository.findAllByCursor(10L, 8L, 20)).thenReturn(new CursorPage<>(List.of(comment), 7L, true));
+        when(postStatsService.getReplyCount(10L)).thenReturn(42L);
+
+        CommentService.CommentCursorResult result = commentService.getCommentsByCursor(10L, 8L, 20);
+
+        assertThat(result.page().getContents()).containsExactly(comment);
+        assertThat(result.page().getNextCursor()).isEqualTo(7L);
+        assertThat(result.totalCount()).isEqualTo(42L);
+        verify(postDetailService).getSnapshot(10L);
+        verify(commentRepository, never()).findPageByPostId(any(), any());
+    }
+
+    @Test
+    void getCommentsByCursor_whenPostMissing_throwsNotFound() {
+        when(postDetailService.getSnapshot(10L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(10L, null, 20))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     @Test
     void updateComment_updatesContentAfterOwnershipCheck() {
         Comment comment = Comment.create(author, post, "old");
@@ -1,14 +1,22 @@
 package com.ktb.community.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.ktb.community.entity.File;
+import com.ktb.community.file.ImageVariantProcessor;
 import com.ktb.community.repository.FileRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
@@ -19,6 +27,8 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,13 +47,19 @@ class FileStorageServiceTest {
     private FileRepository fileRepository;
     @Mock
     private AmazonS3Client s3Client;
+    @Mock
+    private ImageVariantProcessor imageVariantProcessor;
 
-    @InjectMocks
     private FileStorageService fileStorageService;
 
     @BeforeEach
     void setUp() {
+        S3StreamUploader uploader = new S3StreamUploader(s3Client, "test-bucket", 1024, 2, 100);
+        fileStorageService = new FileStorageService(fileRepository, s3Client, uploader, imageVariantProcessor);
         ReflectionTestUtils.setField(fileStorageService, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(fileStorageService, "maxUploadBytes", 4096L);
+        ReflectionTestUtils.setField(fileStorageService, "maxPresignedUploadBytes", 4096L);
+        ReflectionTestUtils.setField(fileStorageService, "presignExpiration", Duration.ofMinutes(10));
     }
 
     @Test
@@ -52,7 +68,6 @@ class FileStorageServiceTest {
         when(multipartFile.isEmpty()).thenReturn(false);
         when(multipartFile.getOriginalFilename()).thenReturn("image.png");
         when(multipartFile.getContentType()).thenReturn("image/png");
-        when(multipartFile.getSize()).thenReturn(128L);
         byte[] payload = {1, 2, 3};
         when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(payload));
         when(fileRepository.save(any(File.class))).thenAnswer(invocation -> {
@@ -66,6 +81,7 @@ class FileStorageServiceTest {
         assertThat(saved.getOriginalFileName()).isEqualTo("image.png");
         assertThat(saved.getFileUrl()).contains("test-bucket");
         assertThat(saved.isCommitted()).isFalse();
+        assertThat(saved.getFileSize()).isEqualTo(payload.length);
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<InputStream> streamCaptor = ArgumentCaptor.forClass(InputStream.class);
         ArgumentCaptor<ObjectMetadata> metadataCaptor = ArgumentCaptor.forClass(ObjectMetadata.class);
@@ -73,6 +89,29 @@ class FileStorageServiceTest {
         assertThat(keyCaptor.getValue()).startsWith("uploads/");
         assertThat(metadataCaptor.getValue().getContentType()).isEqualTo("image/png");
         verify(fileRepository).save(saved);
+        verify(imageVariantProcessor).submit(saved, "image/png");
+    }
+
+    @Test
+    void uploadStream_whenSameContentAlreadyCommitted_sharesExistingObject() {
+        byte[] payload = {1, 2, 3};
+        String sha256 = "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81";
+        File existing = File.pending("first.png", "uploads/first", "https://test-bucket.s3.amazonaws.com/uploads/first", 3, sha256);
+        existing.markCommitted();
+        when(fileRepository.findFirstByContentHashAndCommittedTrueAndDeletedAtIsNullOrderByIdAsc(sha256))
+                .thenReturn(Optional.of(existing));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File saved = fileStorageService.uploadStream("again.png", "image/png", new ByteArrayInputStream(payload));
+
+        assertThat(saved).isNotSameAs(existing);
+        assertThat(saved.getOriginalFileName()).isEqualTo("again.png");
+        assertThat(saved.getStorageKey()).isEqualTo("uploads/first");
+        assertThat(saved.getContentHash()).isEqualTo(sha256);
+        assertThat(saved.isCommitted()).isFalse();
+        ArgumentCaptor<String> uploadedKey = ArgumentCaptor.forClass(String.class);
+        verify(s3Client).putObject(eq("test-bucket"), uploadedKey.capture(), any(InputStream.class), any(ObjectMetadata.class));
+        verify(s3Client).deleteObject("test-bucket", uploadedKey.getValue());
     }
 
     @Test
@@ -102,6 +141,126 @@ class FileStorageServiceTest {
         verify(fileRepository, never()).save(any());
     }
 
+    @Test
+    void uploadStream_whenTooLarge_throwsPayloadTooLargeWithoutSaving() {
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        UploadPartResult part = new UploadPartResult();
+        part.setPartNumber(1);
+        part.setETag("etag");
+        when(s3Client.uploadPart(any(UploadPartRequest.class))).thenReturn(part);
+
+        assertThatThrownBy(() -> fileStorageService.uploadStream("big.bin", "application/octet-stream",
+                new ByteArrayInputStream(new byte[5000])))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void presignUpload_savesFileAwaitingUpload() throws Exception {
+        when(s3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://test-bucket.s3.amazonaws.com/uploads/x?X-Amz-Signature=sig"));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FileStorageService.PresignedUpload upload = fileStorageService.presignUpload("photo.jpg", "image/jpeg", 2048);
+
+        assertThat(upload.uploadUrl()).contains("X-Amz-Signature");
+        assertThat(upload.file().isUploaded()).isFalse();
+        assertThat(upload.file().getStorageKey()).startsWith("uploads/");
+        ArgumentCaptor<GeneratePresignedUrlRequest> request = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(s3Client).generatePresignedUrl(request.capture());
+        assertThat(request.getValue().getMethod()).isEqualTo(HttpMethod.PUT);
+        assertThat(request.getValue().getKey()).isEqualTo(upload.file().getStorageKey());
+        assertThat(request.getValue().getContentType()).isEqualTo("image/jpeg");
+        assertThat(request.getValue().getCustomRequestHeaders()).containsEntry("Content-Length", "2048");
+        assertThat(upload.file().getFileSize()).isEqualTo(2048);
+    }
+
+    @Test
+    void presignUpload_whenDeclaredTooLarge_throwsWithoutSigning() {
+        assertThatThrownBy(() -> fileStorageService.presignUpload("photo.jpg", "image/jpeg", 5000))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        verify(s3Client, never()).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void presignUpload_whenNotAnImage_throwsWithoutSigning() {
+        assertThatThrownBy(() -> fileStorageService.presignUpload("movie.mp4", "video/mp4", 2048))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(s3Client, never()).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void confirmUpload_whenSizeDiffersFromDeclared_deletesObjectAndThrows() {
+        File file = File.awaitingUpload("photo.jpg", "uploads/x", "url", 2048);
+        when(fileRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(file));
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(1024);
+        when(s3Client.getObjectMetadata("test-bucket", "uploads/x")).thenReturn(metadata);
+
+        assertThatThrownBy(() -> fileStorageService.confirmUpload(1L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(s3Client).deleteObject("test-bucket", "uploads/x");
+        assertThat(file.isUploaded()).isFalse();
+    }
+
+    @Test
+    void confirmUpload_whenObjectExists_marksUploadedWithSize() {
+        File file = File.awaitingUpload("photo.jpg", "uploads/x", "url", 2048);
+        when(fileRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(file));
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(2048);
+        when(s3Client.getObjectMetadata("test-bucket", "uploads/x")).thenReturn(metadata);
+
+        File confirmed = fileStorageService.confirmUpload(1L);
+
+        assertThat(confirmed.isUploaded()).isTrue();
+        assertThat(confirmed.getFileSize()).isEqualTo(2048);
+    }
+
+    @Test
+    void confirmUpload_whenObjectMissing_throwsConflict() {
+        File file = File.awaitingUpload("photo.jpg", "uploads/x", "url", 2048);
+        when(fileRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(file));
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        when(s3Client.getObjectMetadata("test-bucket", "uploads/x")).thenThrow(notFound);
+
+        assertThatThrownBy(() -> fileStorageService.confirmUpload(1L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(file.isUploaded()).isFalse();
+    }
+
+    @Test
+    void confirmUpload_whenTooLarge_deletesObjectAndThrows() {
+        File file = File.awaitingUpload("photo.jpg", "uploads/x", "url", 2048);
+        when(fileRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(file));
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(5000);
+        when(s3Client.getObjectMetadata("test-bucket", "uploads/x")).thenReturn(metadata);
+
+        assertThatThrownBy(() -> fileStorageService.confirmUpload(1L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        verify(s3Client).deleteObject("test-bucket", "uploads/x");
+        assertThat(file.isUploaded()).isFalse();
+    }
+
     @Test
     void getOrThrow_whenExists_returnsFile() {
         File file = File.pending("origin", "key", "url", 1000);
@@ -0,0 +1,87 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.repository.PostLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikedPostCacheTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    private LikedPostCache likedPostCache;
+
+    @BeforeEach
+    void setUp() {
+        likedPostCache = new LikedPostCache(postLikeRepository,
+                new CacheConfig().cacheManager(5, 600, 100, 300, 100, 600, 100));
+    }
+
+    @Test
+    void isLiked_loadsOncePerUser() {
+        when(postLikeRepository.findPostIdsByUserId(1L)).thenReturn(List.of(10L, 3_000_000_000L));
+
+        assertThat(likedPostCache.isLiked(1L, 10L)).isTrue();
+        assertThat(likedPostCache.isLiked(1L, 3_000_000_000L)).isTrue();
+        assertThat(likedPostCache.isLiked(1L, 11L)).isFalse();
+        assertThat(likedPostCache.likedAmong(1L, List.of(9L, 10L, 11L))).containsExactly(10L);
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(1L);
+    }
+
+    @Test
+    void markLikedAndUnliked_updateLoadedBitmap() {
+        when(postLikeRepository.findPostIdsByUserId(1L)).thenReturn(List.of(10L));
+        likedPostCache.isLiked(1L, 10L);
+
+        likedPostCache.markLiked(1L, 20L);
+        likedPostCache.markUnliked(1L, 10L);
+
+        assertThat(likedPostCache.isLiked(1L, 20L)).isTrue();
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+    }
+
+    @Test
+    void markLiked_whenNotLoaded_doesNotLoad() {
+        likedPostCache.markLiked(1L, 20L);
+
+        verifyNoInteractions(postLikeRepository);
+    }
+
+    @Test
+    void evict_reloadsOnNextAccess() {
+        when(postLikeRepository.findPostIdsByUserId(1L)).thenReturn(List.of(), List.of(10L));
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+
+        likedPostCache.evict(1L);
+
+        assertThat(likedPostCache.isLiked(1L, 10L)).isTrue();
+    }
+
+    @Test
+    void isLiked_reloadsAfterTtlEvenWhileAccessed() throws InterruptedException {
+        likedPostCache = new LikedPostCache(postLikeRepository,
+                new CacheConfig().cacheManager(5, 600, 100, 300, 100, 1, 100));
+        when(postLikeRepository.findPostIdsByUserId(1L)).thenReturn(List.of(), List.of(10L));
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+
+        Thread.sleep(600);
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+        Thread.sleep(600);
+
+        assertThat(likedPostCache.isLiked(1L, 10L)).isTrue();
+        verify(postLikeRepository, times(2)).findPostIdsByUserId(1L);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.dto.post.PostDetailSnapshot;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig({CacheConfig.class, PostDetailService.class, PostVoteService.class})
+class PostDetailCacheTest {
+
+    @Autowired
+    private PostDetailService postDetailService;
+    @Autowired
+    private PostVoteService postVoteService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private PostRepository postRepository;
+    @MockitoBean
+    private PostVoteRepository postVoteRepository;
+    @MockitoBean
+    private UserRepository userRepository;
+    @MockitoBean
+    private PostStatsService postStatsService;
+    @MockitoBean
+    private UserScoreService userScoreService;
+    @MockitoBean
+    private VoteTallyBuffer voteTallyBuffer;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.POST_DETAIL).clear();
+        User author = User.builder().email("a@example.com").password("pw").nickname("a")
+                .active(true).admin(false).deleted(false).build();
+        ReflectionTestUtils.setField(author, "id", 1L);
+        post = Post.create(author, "title", "content");
+        ReflectionTestUtils.setField(post, "id", 7L);
+        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(7L)).thenReturn(Optional.of(post));
+    }
+
+    @Test
+    void getSnapshot_isLoadedOncePerPost() {
+        postDetailService.getSnapshot(7L);
+        postDetailService.getSnapshot(7L);
+
+        verify(postRepository, times(1)).findWithFilesByIdAndDeletedAtIsNull(7L);
+    }
+
+    @Test
+    void revealAnswer_evictsSnapshot() {
+        when(postRepository.findByIdAndDeletedAtIsNull(7L)).thenReturn(Optional.of(post));
+        assertThat(postDetailService.getSnapshot(7L).answerRevealed()).isFalse();
+
+        postVoteService.revealAnswer(7L);
+        PostDetailSnapshot reloaded = postDetailService.getSnapshot(7L);
+
+        assertThat(reloaded.answerRevealed()).isTrue();
+        verify(postRepository, times(2)).findWithFilesByIdAndDeletedAtIsNull(7L);
+    }
+}
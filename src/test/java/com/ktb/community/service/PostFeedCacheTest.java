@@ -0,0 +1,121 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.FeedItemRepository;
+import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.support.CursorPage;
+import com.ktb.community.support.PostSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// PostService 의 피드 첫 페이지 캐시/무효화를 Spring 프록시를 거쳐 확인
+@SpringJUnitConfig({CacheConfig.class, PostService.class})
+class PostFeedCacheTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private PostRepository postRepository;
+    @MockitoBean
+    private FileRepository fileRepository;
+    @MockitoBean
+    private OwnershipVerifier ownershipVerifier;
+    @MockitoBean
+    private PostStatsService postStatsService;
+    @MockitoBean
+    private PostLikeRepository postLikeRepository;
+    @MockitoBean
+    private FeedItemRepository feedItemRepository;
+    @MockitoBean
+    private PostDetailService postDetailService;
+    @MockitoBean
+    private AnswerRevealScheduler answerRevealScheduler;
+    @MockitoBean
+    private LikedPostCache likedPostCache;
+    @MockitoBean
+    private PostVoteService postVoteService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.FEED_FIRST_PAGE).clear();
+        when(postRepository.findAllByCursor(any(), anyInt(), any()))
+                .thenReturn(new CursorPage<>(List.of(), null, false));
+    }
+
+    @Test
+    void getPosts_firstPageIsServedFromCachePerSortAndSize() {
+        postService.getPosts(null, null, 10, PostSortType.LATEST);
+        postService.getPosts(null, null, 10, PostSortType.LATEST);
+        postService.getPosts(null, null, 10, PostSortType.LIKES);
+
+        verify(postRepository, times(1)).findAllByCursor(null, 10, PostSortType.LATEST);
+        verify(postRepository, times(1)).findAllByCursor(null, 10, PostSortType.LIKES);
+    }
+
+    @Test
+    void getPosts_withCursorBypassesCache() {
+        postService.getPosts(5L, null, 10, PostSortType.LATEST);
+        postService.getPosts(5L, null, 10, PostSortType.LATEST);
+
+        verify(postRepository, times(2)).findAllByCursor(any(), eq(10), eq(PostSortType.LATEST));
+    }
+
+    @Test
+    void deletePost_evictsCachedFirstPages() {
+        User author = User.builder().email("a@example.com").password("pw").nickname("a")
+                .active(true).admin(false).deleted(false).build();
+        ReflectionTestUtils.setField(author, "id", 1L);
+        Post post = Post.create(author, "title", "content");
+        ReflectionTestUtils.setField(post, "id", 1L);
+        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
+
+        postService.getPosts(null, null, 10, PostSortType.LATEST);
+        postService.deletePost(1L, author);
+        postService.getPosts(null, null, 10, PostSortType.LATEST);
+
+        verify(postRepository, times(2)).findAllByCursor(null, 10, PostSortType.LATEST);
+    }
+
+    @Test
+    void evictInsideTransaction_isDeferredUntilCommit() {
+        Cache cache = cacheManager.getCache(CacheConfig.FEED_FIRST_PAGE);
+        cache.put("LATEST:10", "page");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.clear();
+            assertThat(cache.get("LATEST:10")).isNotNull();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get("LATEST:10")).isNull();
+    }
+}
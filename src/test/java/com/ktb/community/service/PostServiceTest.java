@@ -1,16 +1,24 @@
 package com.ktb.community.service;
 
+import com.ktb.community.dto.post.PostDetailSnapshot;
+import com.ktb.community.dto.post.PostResponse;
 import com.ktb.community.dto.post.PostSummaryResponse;
+import com.ktb.community.entity.AuthorType;
+import com.ktb.community.entity.FeedItem;
 import com.ktb.community.entity.File;
 import com.ktb.community.entity.Post;
-import com.ktb.community.entity.PostLike;
 import com.ktb.community.entity.PostStats;
+import com.ktb.community.entity.PostVote;
 import com.ktb.community.entity.User;
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.repository.FeedItemRepository;
 import com.ktb.community.repository.FileRepository;
 import com.ktb.community.repository.PostLikeRepository;
 import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.projection.PostCounters;
 import com.ktb.community.repository.projection.PostSummaryProjection;
 import com.ktb.community.support.CursorPage;
+import com.ktb.community.support.PostCursor;
 import com.ktb.community.support.PostSortType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,14 +32,17 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -50,6 +61,16 @@ class PostServiceTest {
     private PostStatsService postStatsService;
     @Mock
     private PostLikeRepository postLikeRepository;
+    @Mock
+    private FeedItemRepository feedItemRepository;
+    @Mock
+    private PostDetailService postDetailService;
+    @Mock
+    private AnswerRevealScheduler answerRevealScheduler;
+    @Mock
+    private LikedPostCache likedPostCache;
+    @Mock
+    private PostVoteService postVoteService;
 
     @InjectMocks
     private PostService postService;
@@ -66,7 +87,7 @@ class PostServiceTest {
         List<Long> fileIds = List.of(10L, 11L);
         File file1 = File.pending("a.txt", "key1", "url1", 1000);
         File file2 = File.pending("b.txt", "key2", "url2", 9000);
-        when(fileRepository.findByIdIn(fileIds)).thenReturn(List.of(file1, file2));
+        when(fileRepository.findLiveByIdInForUpdate(fileIds)).thenReturn(List.of(file1, file2));
         when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
             Post post = invocation.getArgument(0);
             ReflectionTestUtils.setField(post, "id", 100L);
@@ -82,12 +103,32 @@ class PostServiceTest {
         assertThat(file1.isCommitted()).isTrue();
         assertThat(file2.isCommitted()).isTrue();
         verify(postStatsService).initialize(result);
+        ArgumentCaptor<FeedItem> feedItemCaptor = ArgumentCaptor.forClass(FeedItem.class);
+        verify(feedItemRepository).save(feedItemCaptor.capture());
+        assertThat(feedItemCaptor.getValue().getId()).isEqualTo(100L);
+        assertThat(feedItemCaptor.getValue().getAuthorNickname()).isEqualTo("user");
+        assertThat(feedItemCaptor.getValue().getLikeCount()).isZero();
+        verifyNoInteractions(answerRevealScheduler);
+    }
+
+    @Test
+    void createPost_withVoteDeadline_schedulesAnswerReveal() {
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            ReflectionTestUtils.setField(post, "id", 100L);
+            return post;
+        });
+
+        Post result = postService.createPost(author, "title", "content", null, AuthorType.HUMAN, null, 3);
+
+        assertThat(result.getVoteDeadlineAt()).isNotNull();
+        verify(answerRevealScheduler).schedule(100L, result.getVoteDeadlineAt());
     }
 
     @Test
     void createPost_whenFileMissing_throwsNotFound() {
         List<Long> fileIds = List.of(10L, 11L);
-        when(fileRepository.findByIdIn(fileIds)).thenReturn(List.of(File.pending("a", "k", "u", 1)));
+        when(fileRepository.findLiveByIdInForUpdate(fileIds)).thenReturn(List.of(File.pending("a", "k", "u", 1)));
 
         assertThatThrownBy(() -> postService.createPost(author, "t", "c", fileIds))
                 .isInstanceOf(ResponseStatusException.class)
@@ -96,23 +137,60 @@ class PostServiceTest {
         verify(postRepository, never()).save(any());
     }
 
+    @Test
+    void createPost_whenFileUploadNotConfirmed_throwsBadRequest() {
+        List<Long> fileIds = List.of(10L);
+        when(fileRepository.findLiveByIdInForUpdate(fileIds)).thenReturn(List.of(File.awaitingUpload("a.png", "k", "u", 3)));
+
+        assertThatThrownBy(() -> postService.createPost(author, "t", "c", fileIds))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(postRepository, never()).save(any());
+    }
+
     @Test
     void getPosts_returnsMappedCursorPage() {
         PostSummaryProjection projection = new PostSummaryProjection(
-                1L, "title", "content", 2L, "nick", null,
+                1L, "title", "content", 1200, 2L, "nick", null,
                 Instant.now(), Instant.now(), 3L, 4L, 5L
         );
-        CursorPage<PostSummaryProjection> source = new CursorPage<>(List.of(projection), 9L, true);
-        when(postRepository.findAllByCursor(5L, 20, PostSortType.LATEST)).thenReturn(source);
+        CursorPage<PostSummaryProjection> source = new CursorPage<>(List.of(projection), 9L, "token", true);
+        when(postRepository.findAllByCursor(PostCursor.ofPostId(PostSortType.LATEST, 5L), 20, PostSortType.LATEST))
+                .thenReturn(source);
 
-        CursorPage<PostSummaryResponse> page = postService.getPosts(5L, 20, PostSortType.LATEST);
+        CursorPage<PostSummaryResponse> page = postService.getPosts(5L, null, 20, PostSortType.LATEST);
 
         assertThat(page.getContents()).hasSize(1);
         assertThat(page.getNextCursor()).isEqualTo(9L);
+        assertThat(page.getNextCursorToken()).isEqualTo("token");
         assertThat(page.isHasNext()).isTrue();
         PostSummaryResponse response = page.getContents().getFirst();
         assertThat(response.id()).isEqualTo(1L);
         assertThat(response.authorId()).isEqualTo(2L);
+        assertThat(response.hasMore()).isTrue();
+    }
+
+    @Test
+    void getPosts_withCursorToken_passesEmbeddedSortValue() {
+        String token = PostCursor.of(PostSortType.LIKES, 12L, 34L).encode();
+        when(postRepository.findAllByCursor(PostCursor.of(PostSortType.LIKES, 12L, 34L), 10, PostSortType.LIKES))
+                .thenReturn(new CursorPage<>(List.of(), null, false));
+
+        CursorPage<PostSummaryResponse> page = postService.getPosts(null, token, 10, PostSortType.LIKES);
+
+        assertThat(page.getContents()).isEmpty();
+    }
+
+    @Test
+    void getPosts_whenCursorTokenSortMismatch_throwsBadRequest() {
+        String token = PostCursor.of(PostSortType.VIEWS, 3L, 4L).encode();
+
+        assertThatThrownBy(() -> postService.getPosts(null, token, 10, PostSortType.LIKES))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(postRepository);
     }
 
     @Test
@@ -136,15 +214,44 @@ class PostServiceTest {
     }
 
     @Test
-    void viewPost_loadsPostAndIncrementsViewCount() {
+    void viewPost_overlaysCountersOnSnapshotAndIncrementsViewCount() {
         Post post = createPost(1L, author);
-        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
-        when(postStatsService.increaseView(1L)).thenReturn(PostStats.initialize(post));
+        when(postDetailService.getSnapshot(1L)).thenReturn(PostDetailSnapshot.from(post));
+        when(postStatsService.getCounters(1L)).thenReturn(new PostCounters(12L, 3L, 4L, 1L, 2L, 3L));
 
-        Post result = postService.viewPost(1L);
+        PostResponse result = postService.viewPost(1L, null);
 
-        assertThat(result).isSameAs(post);
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.title()).isEqualTo("title");
+        assertThat(result.viewCount()).isEqualTo(12L);
+        assertThat(result.likeCount()).isEqualTo(3L);
+        assertThat(result.voteStats().totalVoteCount()).isEqualTo(3L);
+        assertThat(result.authorType()).isNull();
         verify(postStatsService).increaseView(1L);
+        verifyNoInteractions(postRepository);
+        verifyNoInteractions(postVoteService);
+    }
+
+    @Test
+    void viewPost_includesViewerVote() {
+        Post post = createPost(1L, author);
+        when(postDetailService.getSnapshot(1L)).thenReturn(PostDetailSnapshot.from(post));
+        when(postStatsService.getCounters(1L)).thenReturn(new PostCounters(0L, 0L, 0L, 0L, 0L, 0L));
+        when(postVoteService.getCurrentUserVote(1L, 2L)).thenReturn(PostVote.of(author, post, VoteType.AI, true));
+
+        PostResponse result = postService.viewPost(1L, 2L);
+
+        assertThat(result.currentUserVote().voteType()).isEqualTo(VoteType.AI);
+        assertThat(result.currentUserVote().isCorrect()).isTrue();
+    }
+
+    @Test
+    void viewPost_whenPostMissing_doesNotLookUpVote() {
+        when(postDetailService.getSnapshot(1L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+
+        assertThatThrownBy(() -> postService.viewPost(1L, 2L))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(postVoteService);
     }
 
     @Test
@@ -155,7 +262,7 @@ class PostServiceTest {
                 File.pending("a", "k1", "u1", 1),
                 File.pending("b", "k2", "u2", 2)
         );
-        when(fileRepository.findByIdIn(List.of(5L, 6L))).thenReturn(files);
+        when(fileRepository.findLiveByIdInForUpdate(List.of(5L, 6L))).thenReturn(files);
 
         Post updated = postService.updatePost(1L, author, "new", "body", List.of(5L, 6L));
 
@@ -178,6 +285,19 @@ class PostServiceTest {
         verifyNoInteractions(fileRepository);
     }
 
+    @Test
+    void updatePost_refreshesFeedItemPreview() {
+        Post post = createPost(1L, author);
+        FeedItem feedItem = FeedItem.from(post);
+        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
+        when(feedItemRepository.findById(1L)).thenReturn(Optional.of(feedItem));
+
+        postService.updatePost(1L, author, "new", "x".repeat(FeedItem.PREVIEW_LENGTH + 50), null);
+
+        assertThat(feedItem.getTitle()).isEqualTo("new");
+        assertThat(feedItem.getContentPreview()).hasSize(FeedItem.PREVIEW_LENGTH);
+    }
+
     @Test
     void deletePost_softDeletesAfterOwnershipCheck() {
         Post post = createPost(1L, author);
@@ -187,75 +307,94 @@ class PostServiceTest {
 
         verify(ownershipVerifier).check(post, author, "Only author can modify this post");
         assertThat(post.isDeleted()).isTrue();
+        verify(feedItemRepository).deleteById(1L);
     }
 
     @Test
-    void likePost_whenNotPreviouslyLiked_createsLikeAndIncrementsStats() {
-        Post post = createPost(1L, author);
-        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
-        when(postLikeRepository.existsByPostIdAndUserId(1L, author.getId())).thenReturn(false);
-        PostStats stats = PostStats.initialize(post);
-        ReflectionTestUtils.setField(stats, "likeCount", 2L);
-        when(postStatsService.increaseLike(1L)).thenReturn(stats);
-        when(postLikeRepository.save(any(PostLike.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    void likePost_whenInserted_incrementsStats() {
+        when(postLikeRepository.insertIfAbsent(author.getId(), 1L)).thenReturn(1);
+        when(postStatsService.increaseLike(1L)).thenReturn(2L);
 
         PostService.PostLikeResult result = postService.likePost(1L, author);
 
         assertThat(result.liked()).isTrue();
         assertThat(result.likeCount()).isEqualTo(2L);
-        ArgumentCaptor<PostLike> captor = ArgumentCaptor.forClass(PostLike.class);
-        verify(postLikeRepository).save(captor.capture());
-        assertThat(captor.getValue().getPost()).isSameAs(post);
+        verify(postDetailService).getSnapshot(1L);
+        verify(postRepository, never()).findWithFilesByIdAndDeletedAtIsNull(anyLong());
+        verify(likedPostCache).markLiked(author.getId(), 1L);
     }
 
     @Test
     void likePost_whenAlreadyLiked_returnsCurrentCount() {
-        Post post = createPost(1L, author);
-        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
-        when(postLikeRepository.existsByPostIdAndUserId(1L, author.getId())).thenReturn(true);
-        PostStats stats = PostStats.initialize(post);
-        ReflectionTestUtils.setField(stats, "likeCount", 5L);
-        when(postStatsService.getStats(1L)).thenReturn(stats);
+        when(postLikeRepository.insertIfAbsent(author.getId(), 1L)).thenReturn(0);
+        when(postStatsService.getCounters(1L)).thenReturn(new PostCounters(0L, 5L, 0L, 0L, 0L, 0L));
 
         PostService.PostLikeResult result = postService.likePost(1L, author);
 
         assertThat(result.liked()).isTrue();
         assertThat(result.likeCount()).isEqualTo(5L);
-        verify(postLikeRepository, never()).save(any());
         verify(postStatsService, never()).increaseLike(anyLong());
+        verify(likedPostCache).markLiked(author.getId(), 1L);
     }
 
     @Test
-    void unlikePost_whenExistingLike_removesAndDecrements() {
-        Post post = createPost(1L, author);
-        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
-        PostLike existing = PostLike.of(author, post);
-        when(postLikeRepository.findByPostIdAndUserId(1L, author.getId())).thenReturn(Optional.of(existing));
-        PostStats stats = PostStats.initialize(post);
-        ReflectionTestUtils.setField(stats, "likeCount", 4L);
-        when(postStatsService.decreaseLike(1L)).thenReturn(stats);
-        doNothing().when(postLikeRepository).delete(existing);
+    void likePost_whenPostMissing_throwsNotFound() {
+        when(postDetailService.getSnapshot(1L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+
+        assertThatThrownBy(() -> postService.likePost(1L, author))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+
+    @Test
+    void unlikePost_whenDeleted_decrementsStats() {
+        when(postLikeRepository.deleteIfPresent(author.getId(), 1L)).thenReturn(1);
+        when(postStatsService.decreaseLike(1L)).thenReturn(4L);
 
         PostService.PostLikeResult result = postService.unlikePost(1L, author);
 
         assertThat(result.liked()).isFalse();
         assertThat(result.likeCount()).isEqualTo(4L);
-        verify(postLikeRepository).delete(existing);
+        verify(likedPostCache).markUnliked(author.getId(), 1L);
     }
+
     @Test
-    void unlikePost_whenNoExistingLike_returnsCurrentStats() {
-        Post post = createPost(1L, author);
-        when(postRepository.findWithFilesByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(post));
-        when(postLikeRepository.findByPostIdAndUserId(1L, author.getId())).thenReturn(Optional.empty());
-        PostStats stats = PostStats.initialize(post);
-        ReflectionTestUtils.setField(stats, "likeCount", 7L);
-        when(postStatsService.getStats(1L)).thenReturn(stats);
+    void unlikePost_whenNotLiked_returnsCurrentCount() {
+        when(postLikeRepository.deleteIfPresent(author.getId(), 1L)).thenReturn(0);
+        when(postStatsService.getCounters(1L)).thenReturn(new PostCounters(0L, 7L, 0L, 0L, 0L, 0L));
 
         PostService.PostLikeResult result = postService.unlikePost(1L, author);
 
         assertThat(result.liked()).isFalse();
         assertThat(result.likeCount()).isEqualTo(7L);
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
+        verify(postStatsService, never()).decreaseLike(anyLong());
+    }
+
+    @Test
+    void checkPostsLiked_returnsFlagsAndCountsInRequestOrder() {
+        Set<Long> ids = new LinkedHashSet<>(List.of(3L, 1L, 2L));
+        when(likedPostCache.likedAmong(author.getId(), ids)).thenReturn(Set.of(1L));
+        when(postStatsService.getLikeCounts(ids)).thenReturn(Map.of(3L, 5L, 1L, 2L));
+
+        List<PostService.PostLikeResult> results = postService.checkPostsLiked(List.of(3L, 1L, 3L, 2L), author);
+
+        assertThat(results).containsExactly(
+                new PostService.PostLikeResult(3L, false, 5L),
+                new PostService.PostLikeResult(1L, true, 2L),
+                new PostService.PostLikeResult(2L, false, 0L));
+    }
+
+    @Test
+    void checkPostsLiked_whenTooManyIds_throwsBadRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, 51).boxed().toList();
+
+        assertThatThrownBy(() -> postService.checkPostsLiked(ids, author))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(likedPostCache);
     }
 
     private static User createUser(Long id) {
@@ -3,8 +3,12 @@ package com.ktb.community.service;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.PostStats;
 import com.ktb.community.entity.User;
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.repository.FeedItemRepository;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.projection.PostCounters;
+import com.ktb.community.repository.projection.PostVoteCounts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,7 +24,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +36,12 @@ class PostStatsServiceTest {
     private PostStatsRepository postStatsRepository;
     @Mock
     private PostRepository postRepository;
+    @Mock
+    private PostViewCountBuffer postViewCountBuffer;
+    @Mock
+    private FeedItemRepository feedItemRepository;
+    @Mock
+    private VoteTallyBuffer voteTallyBuffer;
 
     @InjectMocks
     private PostStatsService postStatsService;
@@ -87,23 +99,72 @@ class PostStatsServiceTest {
     }
 
     @Test
-    void increaseView_incrementsCounter() {
-        PostStats stats = PostStats.initialize(post);
-        when(postStatsRepository.findByPostId(10L)).thenReturn(Optional.of(stats));
+    void increaseView_buffersIncrementWithoutTouchingStats() {
+        postStatsService.increaseView(10L);
+
+        verify(postViewCountBuffer).increment(10L);
+        verifyNoInteractions(postStatsRepository);
+    }
+
+    @Test
+    void increaseLike_appliesAtomicUpdateAndReturnsFreshCount() {
+        when(postStatsRepository.incrementLikeCount(10L)).thenReturn(1);
+        when(postStatsRepository.findLikeCount(10L)).thenReturn(4L);
+
+        long result = postStatsService.increaseLike(10L);
+
+        assertThat(result).isEqualTo(4L);
+        verify(postStatsRepository, never()).findByPostId(10L);
+        verify(feedItemRepository).updateLikeCount(10L, 4L);
+    }
+
+    @Test
+    void increaseReply_copiesFreshCountToFeedItem() {
+        when(postStatsRepository.incrementReplyCount(10L)).thenReturn(1);
+        when(postStatsRepository.findReplyCount(10L)).thenReturn(7L);
+
+        postStatsService.increaseReply(10L);
+
+        verify(feedItemRepository).updateReplyCount(10L, 7L);
+    }
+
+    @Test
+    void decreaseLike_whenStatsRowMissing_createsRowAndRetries() {
+        when(postStatsRepository.decrementLikeCount(10L)).thenReturn(0, 1);
+        when(postStatsRepository.findByPostId(10L)).thenReturn(Optional.empty());
+        when(postRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(post));
+        when(postStatsRepository.save(org.mockito.ArgumentMatchers.any(PostStats.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(postStatsRepository.findLikeCount(10L)).thenReturn(0L);
+
+        long result = postStatsService.decreaseLike(10L);
+
+        assertThat(result).isZero();
+        verify(postStatsRepository).flush();
+        verify(postStatsRepository, times(2)).decrementLikeCount(10L);
+    }
+
+    @Test
+    void getVoteCounts_addsBufferedVotes() {
+        when(postStatsRepository.findVoteCounts(10L)).thenReturn(new PostVoteCounts(2L, 2L, 4L));
+        when(voteTallyBuffer.pendingVoteCounts(10L)).thenReturn(PostVoteCounts.of(VoteType.AI));
+
+        PostVoteCounts result = postStatsService.getVoteCounts(10L);
 
-        PostStats result = postStatsService.increaseView(10L);
 
-        assertThat(result.getViewCount()).isEqualTo(1L);
+        assertThat(result.aiVoteCount()).isEqualTo(3L);
+        assertThat(result.totalVoteCount()).isEqualTo(5L);
     }
 
     @Test
-    void decreaseLike_doesNotDropBelowZero() {
-        PostStats stats = PostStats.initialize(post);
-        when(postStatsRepository.findByPostId(10L)).thenReturn(Optional.of(stats));
+    void getCounters_addsBufferedViews() {
+        when(postStatsRepository.findCounters(10L)).thenReturn(new PostCounters(5L, 1L, 2L, 0L, 0L, 0L));
+        when(postViewCountBuffer.pendingCount(10L)).thenReturn(3L);
 
-        PostStats result = postStatsService.decreaseLike(10L);
+        PostCounters result = postStatsService.getCounters(10L);
 
-        assertThat(result.getLikeCount()).isZero();
+        assertThat(result.viewCount()).isEqualTo(8L);
+        assertThat(result.likeCount()).isEqualTo(1L);
     }
 
     @Test
@@ -0,0 +1,103 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountBufferTest {
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
+    @InjectMocks
+    private PostViewCountBuffer buffer;
+
+    @Test
+    void flush_writesAggregatedDeltasPerPost() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        buffer.flush();
+
+        verify(postStatsRepository).addViewCounts(Map.of(1L, 3L, 2L, 1L));
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    void flush_whenNothingBuffered_skipsUpdate() {
+        buffer.flush();
+
+        verify(postStatsRepository, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    void flush_whenUpdateFails_keepsDeltasForNextFlush() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(postStatsRepository).addViewCounts(anyMap());
+
+        buffer.flush();
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2L);
+        buffer.flush();
+
+        verify(postStatsRepository, times(2)).addViewCounts(Map.of(1L, 2L));
+    }
+
+    @Test
+    void pendingCount_includesDeltasBeingWritten() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        doAnswer(invocation -> {
+            assertThat(buffer.pendingCount(1L)).isEqualTo(2L);
+            return null;
+        }).when(postStatsRepository).addViewCounts(anyMap());
+
+        buffer.flush();
+
+        verify(postStatsRepository).addViewCounts(Map.of(1L, 2L));
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    void flush_countsIncrementOnAdderTakenBeforeDrain() {
+        buffer.increment(1L);
+        // flush 직전에 adder 를 받아 간 요청 스레드를 흉내
+        @SuppressWarnings("unchecked")
+        LongAdder taken = ((Map<Long, LongAdder>) ReflectionTestUtils.getField(buffer, "pending")).get(1L);
+
+        buffer.flush();
+        taken.increment();
+        buffer.flush();
+
+        verify(postStatsRepository, times(2)).addViewCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    void flushOnShutdown_drainsPendingViews() {
+        buffer.increment(5L);
+
+        buffer.flushOnShutdown();
+
+        verify(postStatsRepository).addViewCounts(Map.of(5L, 1L));
+    }
+}
@@ -0,0 +1,128 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.post.PostDetailSnapshot;
+import com.ktb.community.dto.vote.VoteRequest;
+import com.ktb.community.dto.vote.VoteResponse;
+import com.ktb.community.entity.AuthorType;
+import com.ktb.community.entity.Post;
+import com.ktb.community.entity.PostVote;
+import com.ktb.community.entity.User;
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostVoteServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostVoteRepository postVoteRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostStatsService postStatsService;
+    @Mock
+    private UserScoreService userScoreService;
+    @Mock
+    private PostDetailService postDetailService;
+    @Mock
+    private VoteTallyBuffer voteTallyBuffer;
+
+    @InjectMocks
+    private PostVoteService postVoteService;
+
+    private User voter;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        voter = User.builder()
+                .email("voter@example.com")
+                .password("pw")
+                .nickname("voter")
+                .active(true)
+                .admin(false)
+                .deleted(false)
+                .build();
+        ReflectionTestUtils.setField(voter, "id", 1L);
+        post = Post.create(voter, "title", "content", AuthorType.AI, null, Instant.now().plus(Duration.ofDays(1)));
+        ReflectionTestUtils.setField(post, "id", 10L);
+    }
+
+    @Test
+    void votePost_insertsWithReferencesAndEnqueuesTally() {
+        when(postDetailService.getSnapshot(10L)).thenReturn(PostDetailSnapshot.from(post));
+        when(userRepository.getReferenceById(1L)).thenReturn(voter);
+        when(postRepository.getReferenceById(10L)).thenReturn(post);
+        when(postVoteRepository.save(any(PostVote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postStatsService.getVoteCounts(10L)).thenReturn(new PostVoteCounts(3L, 1L, 4L));
+        when(userScoreService.getVoteScore(1L)).thenReturn(6);
+
+        VoteResponse response = postVoteService.votePost(10L, 1L, new VoteRequest(VoteType.AI));
+
+        assertThat(response.isCorrect()).isTrue();
+        assertThat(response.getUserTotalScore()).isEqualTo(7);
+        assertThat(response.getPostVoteStats().getTotalVoteCount()).isEqualTo(5L);
+        verify(voteTallyBuffer).enqueue(new VoteTallyBuffer.VoteEvent(null, 10L, 1L, VoteType.AI, true));
+        verify(postVoteRepository, never()).existsByPostIdAndUserId(anyLong(), anyLong());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void votePost_whenUniqueConstraintFails_reportsDuplicateWithoutEnqueueing() {
+        when(postDetailService.getSnapshot(10L)).thenReturn(PostDetailSnapshot.from(post));
+        when(postVoteRepository.save(any(PostVote.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "post_vote.UNIQUE_USER_POST_VOTE")));
+
+        assertThatThrownBy(() -> postVoteService.votePost(10L, 1L, new VoteRequest(VoteType.HUMAN)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 투표한 게시글입니다.");
+        verify(voteTallyBuffer, never()).enqueue(any());
+    }
+
+    @Test
+    void votePost_whenForeignKeyFails_rethrowsInsteadOfReportingDuplicate() {
+        when(postDetailService.getSnapshot(10L)).thenReturn(PostDetailSnapshot.from(post));
+        DataIntegrityViolationException fkViolation = new DataIntegrityViolationException("fk",
+                new ConstraintViolationException("fk", new SQLException(), "fk_post_vote_user"));
+        when(postVoteRepository.save(any(PostVote.class))).thenThrow(fkViolation);
+
+        assertThatThrownBy(() -> postVoteService.votePost(10L, 1L, new VoteRequest(VoteType.HUMAN)))
+                .isSameAs(fkViolation);
+        verify(voteTallyBuffer, never()).enqueue(any());
+    }
+
+    @Test
+    void votePost_whenVotingClosed_rejectsBeforeInsert() {
+        post.revealAnswer();
+        when(postDetailService.getSnapshot(10L)).thenReturn(PostDetailSnapshot.from(post));
+
+        assertThatThrownBy(() -> postVoteService.votePost(10L, 1L, new VoteRequest(VoteType.AI)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(postVoteRepository, never()).save(any());
+    }
+}
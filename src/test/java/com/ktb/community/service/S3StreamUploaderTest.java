@@ -0,0 +1,112 @@
+package com.ktb.community.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3StreamUploaderTest {
+
+    @Mock
+    private AmazonS3Client s3Client;
+
+    @Test
+    void upload_whenFitsInOneBuffer_putsSingleObject() throws IOException {
+        S3StreamUploader uploader = new S3StreamUploader(s3Client, "bucket", 8, 1, 100);
+
+        long size = uploader.upload("key", new ByteArrayInputStream(new byte[5]), "image/png", 100);
+
+        assertThat(size).isEqualTo(5);
+        ArgumentCaptor<ObjectMetadata> metadata = ArgumentCaptor.forClass(ObjectMetadata.class);
+        verify(s3Client).putObject(eq("bucket"), eq("key"), any(InputStream.class), metadata.capture());
+        assertThat(metadata.getValue().getContentLength()).isEqualTo(5);
+        verify(s3Client, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    void upload_whenLargerThanBuffer_uploadsPartsInOrder() throws IOException {
+        S3StreamUploader uploader = new S3StreamUploader(s3Client, "bucket", 8, 1, 100);
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        when(s3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        long size = uploader.upload("key", new ByteArrayInputStream(new byte[20]), "video/mp4", 100);
+
+        assertThat(size).isEqualTo(20);
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(parts.capture());
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::getPartSize).containsExactly(8L, 8L, 4L);
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().getPartETags()).extracting(tag -> tag.getPartNumber()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void upload_whenAllBuffersInUse_throwsServiceUnavailable() throws Exception {
+        S3StreamUploader uploader = new S3StreamUploader(s3Client, "bucket", 8, 1, 50);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream blocking = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> first = executor.submit(() -> uploader.upload("a", blocking, "text/plain", 100));
+            reading.await();
+
+            assertThatThrownBy(() -> uploader.upload("b", new ByteArrayInputStream(new byte[1]), "text/plain", 100))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting("statusCode")
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+            release.countDown();
+            assertThatThrownBy(first::get).hasCauseInstanceOf(ResponseStatusException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
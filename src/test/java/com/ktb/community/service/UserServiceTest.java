@@ -1,14 +1,20 @@
 package com.ktb.community.service;
 
+import com.ktb.community.config.CacheConfig;
 import com.ktb.community.entity.File;
 import com.ktb.community.entity.User;
+import com.ktb.community.repository.FeedItemRepository;
 import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.user.UserSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -16,6 +22,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +42,16 @@ class UserServiceTest {
     private FileRepository fileRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private FeedItemRepository feedItemRepository;
+    @Mock
+    private UserSnapshotService userSnapshotService;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache postDetailCache;
 
     @InjectMocks
     private UserService userService;
@@ -56,7 +73,7 @@ class UserServiceTest {
         assertThat(registered.getPassword()).isEqualTo("encoded");
         assertThat(registered.isActive()).isTrue();
         assertThat(registered.isDeleted()).isFalse();
-        verify(fileRepository, never()).findByIdAndDeletedAtIsNull(anyLong());
+        verify(fileRepository, never()).findLiveByIdForUpdate(anyLong());
     }
 
     @Test
@@ -65,7 +82,7 @@ class UserServiceTest {
         when(userRepository.existsByNickname("tester")).thenReturn(false);
         when(passwordEncoder.encode("raw")).thenReturn("encoded");
         File profile = File.pending("profile.png", "key", "url", 12);
-        when(fileRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.of(profile));
+        when(fileRepository.findLiveByIdForUpdate(2L)).thenReturn(Optional.of(profile));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         User registered = userService.register("test@example.com", "raw", "tester", 2L);
@@ -99,7 +116,7 @@ class UserServiceTest {
     void register_whenProfileImageMissing_throwsNotFound() {
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
         when(userRepository.existsByNickname("tester")).thenReturn(false);
-        when(fileRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.empty());
+        when(fileRepository.findLiveByIdForUpdate(2L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.register("test@example.com", "raw", "tester", 2L))
                 .isInstanceOf(ResponseStatusException.class)
@@ -107,6 +124,21 @@ class UserServiceTest {
                 .isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    void register_whenProfileImageNotConfirmed_throwsBadRequest() {
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
+        when(userRepository.existsByNickname("tester")).thenReturn(false);
+        File profile = File.awaitingUpload("profile.png", "key", "url", 12);
+        when(fileRepository.findLiveByIdForUpdate(2L)).thenReturn(Optional.of(profile));
+
+        assertThatThrownBy(() -> userService.register("test@example.com", "raw", "tester", 2L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(profile.isCommitted()).isFalse();
+        verify(userRepository, never()).save(any());
+    }
+
     @Test
     void isEmailAvailable_delegatesToRepository() {
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
@@ -187,6 +219,65 @@ class UserServiceTest {
                 .isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    void updateUserProfile_whenNicknameChanged_updatesFeedItems() {
+        User user = buildUser(1L, true, false);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(cacheManager.getCache(CacheConfig.POST_DETAIL)).thenReturn(postDetailCache);
+        when(postRepository.findIdsByUserId(1L)).thenReturn(List.of(10L, 11L));
+
+        userService.updateUserProfile(1L, "user1@example.com", "renamed", null);
+
+        assertThat(user.getNickname()).isEqualTo("renamed");
+        verify(feedItemRepository).updateAuthorNickname(1L, "renamed");
+        // 전체가 아니라 이 사용자가 쓴 게시글의 상세 스냅샷만 비운다
+        verify(postDetailCache).evict(10L);
+        verify(postDetailCache).evict(11L);
+        verify(postDetailCache, never()).clear();
+    }
+
+    @Test
+    void updateUserProfile_whenNothingChanged_keepsPostDetails() {
+        User user = buildUser(1L, true, false);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.updateUserProfile(1L, user.getEmail(), user.getNickname(), null);
+
+        verify(postRepository, never()).findIdsByUserId(anyLong());
+    }
+
+    @Test
+    void updateUserProfile_whenNicknameUnchanged_skipsFeedItems() {
+        User user = buildUser(1L, true, false);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.updateUserProfile(1L, "new@example.com", "user1", null);
+
+        verify(feedItemRepository, never()).updateAuthorNickname(anyLong(), any());
+    }
+
+    @Test
+    void getActiveReference_usesCachedSnapshotInsteadOfQuery() {
+        User reference = buildUser(1L, true, false);
+        when(userSnapshotService.getSnapshot(1L)).thenReturn(UserSnapshot.from(reference));
+        when(userRepository.getReferenceById(1L)).thenReturn(reference);
+
+        User result = userService.getActiveReference(1L);
+
+        assertThat(result).isSameAs(reference);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getActiveSnapshot_whenDeleted_throwsForbidden() {
+        when(userSnapshotService.getSnapshot(1L)).thenReturn(UserSnapshot.from(buildUser(1L, true, true)));
+
+        assertThatThrownBy(() -> userService.getActiveSnapshot(1L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
     @Test
     void markDeleted_flagsUserInactive() {
         User user = buildUser(1L, true, false);
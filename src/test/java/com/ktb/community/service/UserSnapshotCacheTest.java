@@ -0,0 +1,76 @@
+package com.ktb.community.service;
+
+import com.ktb.community.config.CacheConfig;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.FeedItemRepository;
+import com.ktb.community.repository.FileRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig({CacheConfig.class, UserService.class, UserSnapshotService.class})
+class UserSnapshotCacheTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private UserRepository userRepository;
+    @MockitoBean
+    private FileRepository fileRepository;
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+    @MockitoBean
+    private FeedItemRepository feedItemRepository;
+    @MockitoBean
+    private PostRepository postRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.USER_SNAPSHOT).clear();
+        user = User.builder().email("a@example.com").password("pw").nickname("a")
+                .active(true).admin(false).deleted(false).build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+    }
+
+    @Test
+    void getActiveReference_loadsUserOnceWhileCached() {
+        userService.getActiveReference(1L);
+        userService.getActiveReference(1L);
+        userService.getActiveSnapshot(1L);
+
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void markDeleted_evictsSnapshotSoNextRequestIsRejected() {
+        userService.getActiveReference(1L);
+
+        userService.markDeleted(user);
+
+        assertThatThrownBy(() -> userService.getActiveReference(1L))
+                .isInstanceOf(ResponseStatusException.class);
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
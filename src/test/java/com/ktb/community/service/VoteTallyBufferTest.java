@@ -0,0 +1,122 @@
+package com.ktb.community.service;
+
+import com.ktb.community.entity.VoteType;
+import com.ktb.community.ranking.RankingSource;
+import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.PostVoteCounts;
+import com.ktb.community.repository.projection.VoteScoreDelta;
+import com.ktb.community.repository.projection.VoteTallyWatermark;
+import com.ktb.community.service.VoteTallyBuffer.VoteEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyBufferTest {
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+    @Mock
+    private UserScoreRepository userScoreRepository;
+    @Mock
+    private PostVoteRepository postVoteRepository;
+    @Mock
+    private RankingSource rankingSource;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VoteTallyBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new VoteTallyBuffer(postStatsRepository, userScoreRepository, postVoteRepository, rankingSource, transactionManager, 3);
+        lenient().when(postVoteRepository.lockWatermark()).thenReturn(new VoteTallyWatermark(0L, Instant.EPOCH));
+    }
+
+    @Test
+    void flush_coalescesDeltasPerPostAndUser() {
+        buffer.enqueue(new VoteEvent(1L, 10L, 100L, VoteType.AI, true));
+        buffer.enqueue(new VoteEvent(2L, 10L, 101L, VoteType.HUMAN, false));
+        buffer.enqueue(new VoteEvent(3L, 10L, 100L, VoteType.AI, true));
+        assertThat(buffer.pendingVoteCounts(10L)).isEqualTo(new PostVoteCounts(2L, 1L, 3L));
+
+        buffer.flush();
+
+        verify(postStatsRepository).addVoteCounts(Map.of(10L, new PostVoteCounts(2L, 1L, 3L)));
+        verify(userScoreRepository).addVoteScores(Map.of(
+                100L, new VoteScoreDelta(2L, 2L, 3L),
+                101L, new VoteScoreDelta(0L, 1L, 2L)));
+        verify(rankingSource).recordVote(1L, 100L, true);
+        verify(rankingSource).recordVote(3L, 100L, true);
+        assertThat(buffer.pendingVoteCounts(10L)).isEqualTo(PostVoteCounts.empty());
+    }
+
+    @Test
+    void enqueue_whenQueueFull_appliesDirectly() {
+        for (long id = 1; id <= 4; id++) {
+            buffer.enqueue(new VoteEvent(id, 10L, 100L + id, VoteType.AI, false));
+        }
+
+        verify(postStatsRepository).addVoteCounts(Map.of(10L, PostVoteCounts.of(VoteType.AI)));
+        assertThat(buffer.pendingVoteCounts(10L).totalVoteCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void flush_whenUpdateFails_keepsEventsForNextFlush() {
+        buffer.enqueue(new VoteEvent(1L, 10L, 100L, VoteType.AI, true));
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(postStatsRepository).addVoteCounts(anyMap());
+
+        buffer.flush();
+        assertThat(buffer.pendingScore(100L).correctVotes()).isEqualTo(1L);
+        buffer.flush();
+
+        verify(postStatsRepository, times(2)).addVoteCounts(Map.of(10L, PostVoteCounts.of(VoteType.AI)));
+        assertThat(buffer.pendingScore(100L).totalVotes()).isZero();
+    }
+
+    @Test
+    void reconcile_skipsEventsAlreadyCountedFromPostVote() {
+        buffer.reconcile(() -> 5L);
+        buffer.enqueue(new VoteEvent(5L, 10L, 100L, VoteType.AI, true));
+        buffer.enqueue(new VoteEvent(6L, 10L, 101L, VoteType.HUMAN, false));
+
+        buffer.flush();
+
+        verify(postStatsRepository).addVoteCounts(Map.of(10L, PostVoteCounts.of(VoteType.HUMAN)));
+        verify(userScoreRepository, never()).addVoteScores(Map.of(100L, VoteScoreDelta.of(5L, true)));
+        verify(rankingSource, never()).recordVote(5L, 100L, true);
+        verify(rankingSource).recordVote(6L, 101L, false);
+    }
+
+    @Test
+    void flush_skipsEventsReconciledByAnotherNode() {
+        when(postVoteRepository.lockWatermark()).thenReturn(new VoteTallyWatermark(7L, Instant.EPOCH));
+        buffer.enqueue(new VoteEvent(7L, 10L, 100L, VoteType.AI, true));
+        buffer.enqueue(new VoteEvent(8L, 10L, 101L, VoteType.HUMAN, false));
+
+        buffer.flush();
+
+        verify(postStatsRepository).addVoteCounts(Map.of(10L, PostVoteCounts.of(VoteType.HUMAN)));
+        verify(rankingSource, never()).recordVote(7L, 100L, true);
+        assertThat(buffer.pendingVoteCounts(10L)).isEqualTo(PostVoteCounts.empty());
+    }
+}
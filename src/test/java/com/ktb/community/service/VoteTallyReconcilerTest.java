@@ -0,0 +1,97 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostStatsRepository;
+import com.ktb.community.repository.PostVoteRepository;
+import com.ktb.community.repository.UserScoreRepository;
+import com.ktb.community.repository.projection.VoteTallyWatermark;
+import net.javacrumbs.shedlock.core.LockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyReconcilerTest {
+
+    @Mock
+    private VoteTallyBuffer voteTallyBuffer;
+    @Mock
+    private PostVoteRepository postVoteRepository;
+    @Mock
+    private PostStatsRepository postStatsRepository;
+    @Mock
+    private UserScoreRepository userScoreRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private LockProvider lockProvider;
+
+    private VoteTallyReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new VoteTallyReconciler(voteTallyBuffer, postVoteRepository, postStatsRepository,
+                userScoreRepository, transactionManager, lockProvider, false);
+    }
+
+    @Test
+    void reconcile_startsFromSharedWatermarkAndAdvancesIt() {
+        Instant lastRun = Instant.parse("2026-01-01T00:00:00Z");
+        doAnswer(invocation -> invocation.<VoteTallyBuffer.ReconcileAction>getArgument(0).reconcile())
+                .when(voteTallyBuffer).reconcile(any());
+        when(postVoteRepository.lockWatermark()).thenReturn(new VoteTallyWatermark(3L, lastRun));
+        when(postVoteRepository.findMaxId()).thenReturn(42L);
+
+        reconciler.reconcile();
+
+        Instant since = lastRun.minus(Duration.ofMinutes(5));
+        verify(postStatsRepository).reconcileVoteCounts(since, 42L);
+        verify(userScoreRepository).reconcileScores(since, 42L);
+        verify(postVoteRepository).advanceWatermark(eq(42L), any(Instant.class));
+    }
+
+    @Test
+    void reconcile_whenVoteCommitsDuringRecompute_leavesItToTheBuffer() {
+        AtomicLong reconciledThrough = new AtomicLong();
+        doAnswer(invocation -> {
+            reconciledThrough.set(invocation.<VoteTallyBuffer.ReconcileAction>getArgument(0).reconcile());
+            return null;
+        }).when(voteTallyBuffer).reconcile(any());
+        when(postVoteRepository.lockWatermark()).thenReturn(new VoteTallyWatermark(3L, Instant.now()));
+        when(postVoteRepository.findMaxId()).thenReturn(42L);
+        // findMaxId 이후 id 43 투표가 커밋돼도 재계산은 42 까지만 센다
+        when(postStatsRepository.reconcileVoteCounts(any(Instant.class), anyLong())).thenAnswer(invocation -> {
+            when(postVoteRepository.findMaxId()).thenReturn(43L);
+            return 1;
+        });
+
+        reconciler.reconcile();
+
+        verify(userScoreRepository).reconcileScores(any(Instant.class), eq(42L));
+        // 버퍼는 id 43 을 watermark 위로 보고 반영한다
+        assertThat(reconciledThrough.get()).isEqualTo(42L);
+        verify(postVoteRepository).advanceWatermark(eq(42L), any(Instant.class));
+    }
+
+    @Test
+    void run_whenStartupReconcileDisabled_doesNothing() {
+        reconciler.run(null);
+
+        verifyNoInteractions(voteTallyBuffer, lockProvider);
+    }
+}
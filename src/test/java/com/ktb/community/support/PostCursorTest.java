@@ -0,0 +1,48 @@
+package com.ktb.community.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void encode_thenDecode_roundTrips() {
+        PostCursor cursor = PostCursor.of(PostSortType.COMMENTS, 42L, 1001L);
+
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_whenTokenMalformed_throwsBadRequest() {
+        assertThatThrownBy(() -> PostCursor.decode("not-a-cursor"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void resolve_withNumericCursorId_keepsLatestPath() {
+        PostCursor cursor = PostCursor.resolve(15L, null, PostSortType.LATEST);
+
+        assertThat(cursor.postId()).isEqualTo(15L);
+        assertThat(cursor.hasSortValue()).isTrue();
+    }
+
+    @Test
+    void resolve_withNumericCursorIdOnRankedSort_hasNoSortValue() {
+        PostCursor cursor = PostCursor.resolve(15L, "", PostSortType.VIEWS);
+
+        assertThat(cursor.hasSortValue()).isFalse();
+    }
+
+    @Test
+    void resolve_withoutCursor_returnsNull() {
+        assertThat(PostCursor.resolve(null, null, PostSortType.LIKES)).isNull();
+    }
+}